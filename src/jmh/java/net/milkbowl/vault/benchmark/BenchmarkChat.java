@@ -0,0 +1,158 @@
+package net.milkbowl.vault.benchmark;
+
+import net.milkbowl.vault.chat.Chat;
+import net.milkbowl.vault.permission.Permission;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A legacy provider only implementing the name-based methods, storing global player and group metadata.
+ */
+@SuppressWarnings("deprecation")
+final class BenchmarkChat extends Chat {
+    private final Map<String, Object> players = new ConcurrentHashMap<>();
+    private final Map<String, Object> groups = new ConcurrentHashMap<>();
+
+    BenchmarkChat(Permission permission) {
+        super(permission);
+    }
+
+    @Override
+    public String getName() {
+        return "Benchmark";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public String getPlayerPrefix(@Nullable String world, String player) {
+        return get(players, player, "prefix", "");
+    }
+
+    @Override
+    public void setPlayerPrefix(@Nullable String world, String player, String prefix) {
+        players.put(player + ".prefix", prefix);
+    }
+
+    @Override
+    public String getPlayerSuffix(@Nullable String world, String player) {
+        return get(players, player, "suffix", "");
+    }
+
+    @Override
+    public void setPlayerSuffix(@Nullable String world, String player, String suffix) {
+        players.put(player + ".suffix", suffix);
+    }
+
+    @Override
+    public String getGroupPrefix(@Nullable String world, String group) {
+        return get(groups, group, "prefix", "");
+    }
+
+    @Override
+    public void setGroupPrefix(@Nullable String world, String group, String prefix) {
+        groups.put(group + ".prefix", prefix);
+    }
+
+    @Override
+    public String getGroupSuffix(@Nullable String world, String group) {
+        return get(groups, group, "suffix", "");
+    }
+
+    @Override
+    public void setGroupSuffix(@Nullable String world, String group, String suffix) {
+        groups.put(group + ".suffix", suffix);
+    }
+
+    @Override
+    public int getPlayerInfoInteger(@Nullable String world, String player, String node, int defaultValue) {
+        return get(players, player, node, defaultValue);
+    }
+
+    @Override
+    public void setPlayerInfoInteger(@Nullable String world, String player, String node, int value) {
+        players.put(player + "." + node, value);
+    }
+
+    @Override
+    public int getGroupInfoInteger(@Nullable String world, String group, String node, int defaultValue) {
+        return get(groups, group, node, defaultValue);
+    }
+
+    @Override
+    public void setGroupInfoInteger(@Nullable String world, String group, String node, int value) {
+        groups.put(group + "." + node, value);
+    }
+
+    @Override
+    public double getPlayerInfoDouble(@Nullable String world, String player, String node, double defaultValue) {
+        return get(players, player, node, defaultValue);
+    }
+
+    @Override
+    public void setPlayerInfoDouble(@Nullable String world, String player, String node, double value) {
+        players.put(player + "." + node, value);
+    }
+
+    @Override
+    public double getGroupInfoDouble(@Nullable String world, String group, String node, double defaultValue) {
+        return get(groups, group, node, defaultValue);
+    }
+
+    @Override
+    public void setGroupInfoDouble(@Nullable String world, String group, String node, double value) {
+        groups.put(group + "." + node, value);
+    }
+
+    @Override
+    public boolean getPlayerInfoBoolean(@Nullable String world, String player, String node, boolean defaultValue) {
+        return get(players, player, node, defaultValue);
+    }
+
+    @Override
+    public void setPlayerInfoBoolean(@Nullable String world, String player, String node, boolean value) {
+        players.put(player + "." + node, value);
+    }
+
+    @Override
+    public boolean getGroupInfoBoolean(@Nullable String world, String group, String node, boolean defaultValue) {
+        return get(groups, group, node, defaultValue);
+    }
+
+    @Override
+    public void setGroupInfoBoolean(@Nullable String world, String group, String node, boolean value) {
+        groups.put(group + "." + node, value);
+    }
+
+    @Override
+    public String getPlayerInfoString(@Nullable String world, String player, String node, String defaultValue) {
+        return get(players, player, node, defaultValue);
+    }
+
+    @Override
+    public void setPlayerInfoString(@Nullable String world, String player, String node, String value) {
+        players.put(player + "." + node, value);
+    }
+
+    @Override
+    public String getGroupInfoString(@Nullable String world, String group, String node, String defaultValue) {
+        return get(groups, group, node, defaultValue);
+    }
+
+    @Override
+    public void setGroupInfoString(@Nullable String world, String group, String node, String value) {
+        groups.put(group + "." + node, value);
+    }
+
+    // keys are concatenated like the flat node paths of file based providers
+    @SuppressWarnings("unchecked")
+    private static <T> T get(Map<String, Object> values, String holder, String node, T defaultValue) {
+        Object value = values.get(holder + "." + node);
+        return value != null ? (T) value : defaultValue;
+    }
+}
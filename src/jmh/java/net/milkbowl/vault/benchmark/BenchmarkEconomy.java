@@ -0,0 +1,165 @@
+package net.milkbowl.vault.benchmark;
+
+import net.milkbowl.vault.economy.AbstractEconomy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A legacy provider only implementing the name-based methods and relying on the default bridges of
+ * {@link AbstractEconomy}, so every {@link org.bukkit.OfflinePlayer} call is forwarded by the name of the player.
+ */
+@SuppressWarnings("deprecation")
+final class BenchmarkEconomy extends AbstractEconomy {
+    private final Map<String, Double> balances = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Benchmark";
+    }
+
+    @Override
+    public boolean hasBankSupport() {
+        return false;
+    }
+
+    @Override
+    public int fractionalDigits() {
+        return 2;
+    }
+
+    @Override
+    public String format(double amount) {
+        return String.format("%.2f", amount);
+    }
+
+    @Override
+    public String currencyNamePlural() {
+        return "Dollars";
+    }
+
+    @Override
+    public String currencyNameSingular() {
+        return "Dollar";
+    }
+
+    @Override
+    public boolean hasAccount(String playerName) {
+        return balances.containsKey(playerName);
+    }
+
+    @Override
+    public boolean hasAccount(String playerName, @Nullable String worldName) {
+        return hasAccount(playerName);
+    }
+
+    @Override
+    public double getBalance(String playerName) {
+        return balances.getOrDefault(playerName, 0d);
+    }
+
+    @Override
+    public double getBalance(String playerName, @Nullable String world) {
+        return getBalance(playerName);
+    }
+
+    @Override
+    public boolean has(String playerName, double amount) {
+        return getBalance(playerName) >= amount;
+    }
+
+    @Override
+    public boolean has(String playerName, @Nullable String worldName, double amount) {
+        return has(playerName, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(String playerName, double amount) {
+        double[] result = new double[1];
+        boolean success = balances.computeIfPresent(playerName, (name, balance) -> {
+            result[0] = balance;
+            return balance >= amount ? balance - amount : balance;
+        }) != null && result[0] >= amount;
+        return success ? new EconomyResponse(amount, result[0] - amount, EconomyResponse.ResponseType.SUCCESS, null)
+                : new EconomyResponse(0, result[0], EconomyResponse.ResponseType.FAILURE, "Insufficient funds");
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(String playerName, @Nullable String worldName, double amount) {
+        return withdrawPlayer(playerName, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(String playerName, double amount) {
+        double balance = balances.merge(playerName, amount, Double::sum);
+        return new EconomyResponse(amount, balance, EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(String playerName, @Nullable String worldName, double amount) {
+        return depositPlayer(playerName, amount);
+    }
+
+    @Override
+    public EconomyResponse createBank(String name, String player) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public EconomyResponse deleteBank(String name) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public EconomyResponse bankBalance(String name) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public EconomyResponse bankHas(String name, double amount) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public EconomyResponse bankWithdraw(String name, double amount) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public EconomyResponse bankDeposit(String name, double amount) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public EconomyResponse isBankOwner(String name, String playerName) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public EconomyResponse isBankMember(String name, String playerName) {
+        return EconomyResponse.BANKS_NOT_SUPPORTED;
+    }
+
+    @Override
+    public List<String> getBanks() {
+        return List.of();
+    }
+
+    @Override
+    public boolean createPlayerAccount(String playerName) {
+        return balances.putIfAbsent(playerName, 0d) == null;
+    }
+
+    @Override
+    public boolean createPlayerAccount(String playerName, @Nullable String worldName) {
+        return createPlayerAccount(playerName);
+    }
+}
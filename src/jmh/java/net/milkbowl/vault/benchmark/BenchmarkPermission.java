@@ -0,0 +1,119 @@
+package net.milkbowl.vault.benchmark;
+
+import net.milkbowl.vault.permission.Permission;
+import org.bukkit.plugin.Plugin;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A legacy provider only implementing the name-based methods, storing global permissions and groups.
+ */
+@SuppressWarnings("deprecation")
+final class BenchmarkPermission extends Permission {
+    private final Map<String, Set<String>> permissions = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> groups = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> groupPermissions = new ConcurrentHashMap<>();
+
+    BenchmarkPermission(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public String getName() {
+        return "Benchmark";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean hasSuperPermsCompat() {
+        return true;
+    }
+
+    @Override
+    public boolean playerHas(@Nullable String world, String player, String permission) {
+        if (permissions.getOrDefault(player, Set.of()).contains(permission)) return true;
+        for (String group : groups.getOrDefault(player, List.of()))
+            if (groupHas(world, group, permission)) return true;
+        return false;
+    }
+
+    @Override
+    public boolean playerAdd(@Nullable String world, String player, String permission) {
+        return permissions.computeIfAbsent(player, ignored -> ConcurrentHashMap.newKeySet()).add(permission);
+    }
+
+    @Override
+    public boolean playerRemove(@Nullable String world, String player, String permission) {
+        Set<String> set = permissions.get(player);
+        return set != null && set.remove(permission);
+    }
+
+    @Override
+    public boolean groupHas(@Nullable String world, String group, String permission) {
+        return groupPermissions.getOrDefault(group, Set.of()).contains(permission);
+    }
+
+    @Override
+    public boolean groupAdd(@Nullable String world, String group, String permission) {
+        return groupPermissions.computeIfAbsent(group, ignored -> ConcurrentHashMap.newKeySet()).add(permission);
+    }
+
+    @Override
+    public boolean groupRemove(@Nullable String world, String group, String permission) {
+        Set<String> set = groupPermissions.get(group);
+        return set != null && set.remove(permission);
+    }
+
+    @Override
+    public boolean playerInGroup(@Nullable String world, String player, String group) {
+        return groups.getOrDefault(player, List.of()).contains(group);
+    }
+
+    @Override
+    public boolean playerAddGroup(@Nullable String world, String player, String group) {
+        groups.compute(player, (name, current) -> {
+            if (current == null) return List.of(group);
+            if (current.contains(group)) return current;
+            List<String> updated = new ArrayList<>(current);
+            updated.add(group);
+            return List.copyOf(updated);
+        });
+        return true;
+    }
+
+    @Override
+    public boolean playerRemoveGroup(@Nullable String world, String player, String group) {
+        return groups.computeIfPresent(player, (name, current) -> current.stream()
+                .filter(existing -> !existing.equals(group)).toList()) != null;
+    }
+
+    @Override
+    public String[] getPlayerGroups(@Nullable String world, String player) {
+        return groups.getOrDefault(player, List.of()).toArray(String[]::new);
+    }
+
+    @Override
+    public String getPrimaryGroup(@Nullable String world, String player) {
+        List<String> list = groups.getOrDefault(player, List.of());
+        return list.isEmpty() ? "default" : list.get(0);
+    }
+
+    @Override
+    public String[] getGroups() {
+        return groupPermissions.keySet().toArray(String[]::new);
+    }
+
+    @Override
+    public boolean hasGroupSupport() {
+        return true;
+    }
+}
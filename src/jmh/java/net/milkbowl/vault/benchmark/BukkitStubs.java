@@ -0,0 +1,106 @@
+package net.milkbowl.vault.benchmark;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.permissions.Permissible;
+import org.bukkit.permissions.PermissionAttachment;
+import org.bukkit.permissions.PermissionAttachmentInfo;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Minimal stand-ins for the Bukkit objects passed to the Vault APIs, so benchmarks run without a server.
+ * <p>
+ * Every method not needed by the benchmarked call paths returns the default value of its return type.
+ */
+final class BukkitStubs {
+    private BukkitStubs() {
+    }
+
+    static OfflinePlayer offlinePlayer(UUID uniqueId, String name) {
+        return proxy(OfflinePlayer.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getUniqueId" -> uniqueId;
+            case "getName" -> name;
+            default -> fallback(proxy, method, args);
+        });
+    }
+
+    /**
+     * Creates an online player, the effective permissions are copied on every call like Bukkit does
+     *
+     * @param effective the permissions granted through attachments of other plugins
+     */
+    static Player player(UUID uniqueId, String name, World world, Plugin other, int effective) {
+        Set<PermissionAttachmentInfo> permissions = new HashSet<>();
+        Player[] player = new Player[1];
+        player[0] = proxy(Player.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getUniqueId" -> uniqueId;
+            case "getName" -> name;
+            case "getWorld" -> world;
+            case "isOnline" -> true;
+            case "getEffectivePermissions" -> new HashSet<>(permissions);
+            case "addAttachment" -> attach(player[0], (Plugin) args[0], permissions);
+            default -> fallback(proxy, method, args);
+        });
+        PermissionAttachment attachment = new PermissionAttachment(other, player[0]);
+        for (int i = 0; i < effective; i++) {
+            String permission = "other.permission." + i;
+            attachment.setPermission(permission, true);
+            permissions.add(new PermissionAttachmentInfo(player[0], permission, attachment, true));
+        }
+        return player[0];
+    }
+
+    static World world(String name) {
+        return proxy(World.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getName" -> name;
+            default -> fallback(proxy, method, args);
+        });
+    }
+
+    static Plugin plugin(String name) {
+        return proxy(Plugin.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getName" -> name;
+            case "isEnabled" -> true;
+            default -> fallback(proxy, method, args);
+        });
+    }
+
+    private static PermissionAttachment attach(Permissible permissible, Plugin plugin, Set<PermissionAttachmentInfo> permissions) {
+        PermissionAttachment attachment = new PermissionAttachment(plugin, permissible);
+        permissions.add(new PermissionAttachmentInfo(permissible, plugin.getName(), attachment, true));
+        return attachment;
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(BukkitStubs.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object fallback(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> method.getDeclaringClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+            default -> defaultValue(method.getReturnType());
+        };
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        return 0d;
+    }
+}
@@ -0,0 +1,59 @@
+package net.milkbowl.vault.benchmark;
+
+import org.bukkit.OfflinePlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+
+/**
+ * Measures the {@link net.milkbowl.vault.chat.Chat} player call paths,
+ * including the group lookups {@link net.milkbowl.vault.chat.Chat} delegates to its
+ * {@link net.milkbowl.vault.permission.Permission} provider.
+ */
+@State(Scope.Benchmark)
+public class ChatBenchmark {
+    private static final String WORLD = "world";
+
+    private BenchmarkChat chat;
+    private OfflinePlayer player;
+
+    @Setup
+    public void setup() {
+        player = BukkitStubs.offlinePlayer(UUID.randomUUID(), "player");
+        BenchmarkPermission permission = new BenchmarkPermission(BukkitStubs.plugin("Benchmark"));
+        permission.playerAddGroup((String) null, player, "member");
+        chat = new BenchmarkChat(permission);
+        chat.setPlayerPrefix((String) null, player, "[Member] ");
+        chat.setPlayerInfoInteger((String) null, player, "homes", 3);
+    }
+
+    @Benchmark
+    public String getPlayerPrefix() {
+        return chat.getPlayerPrefix(WORLD, player);
+    }
+
+    @Benchmark
+    public int getPlayerInfoInteger() {
+        return chat.getPlayerInfoInteger(WORLD, player, "homes", 1);
+    }
+
+    @Benchmark
+    public boolean playerInGroup() {
+        return chat.playerInGroup(WORLD, player, "member");
+    }
+
+    @Benchmark
+    public String getPrimaryGroup() {
+        return chat.getPrimaryGroup(WORLD, player);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String getPlayerPrefixContended() {
+        return chat.getPlayerPrefix(WORLD, player);
+    }
+}
@@ -0,0 +1,102 @@
+package net.milkbowl.vault.benchmark;
+
+import net.milkbowl.vault.economy.AbstractEconomy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import net.milkbowl.vault.economy.InMemoryEconomy;
+import org.bukkit.OfflinePlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+
+/**
+ * Measures the {@link net.milkbowl.vault.economy.Economy} player call paths.
+ * <p>
+ * The {@code bridged} provider only implements the deprecated name-based methods, so every call
+ * is forwarded by player name through the default bridges of {@link AbstractEconomy}.
+ * The {@code native} provider keys its accounts by unique id and skips the bridges.
+ */
+@State(Scope.Benchmark)
+public class EconomyBenchmark {
+    private static final String WORLD = "world";
+
+    @Param({"bridged", "native"})
+    public String provider;
+
+    @Param({"1024"})
+    public int accounts;
+
+    private AbstractEconomy economy;
+    private OfflinePlayer[] players;
+
+    @Setup
+    public void setup() {
+        players = new OfflinePlayer[accounts];
+        economy = switch (provider) {
+            case "bridged" -> new BenchmarkEconomy();
+            case "native" -> new InMemoryEconomy("Benchmark");
+            default -> throw new IllegalArgumentException("Unknown provider: " + provider);
+        };
+        for (int i = 0; i < accounts; i++) {
+            UUID uniqueId = UUID.randomUUID();
+            players[i] = BukkitStubs.offlinePlayer(uniqueId, "player" + i);
+            economy.createPlayerAccount(players[i]);
+            economy.depositPlayer(players[i], 1_000_000);
+        }
+    }
+
+    /**
+     * Cycles through the players, each benchmark thread starting at a different offset
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index = -1;
+
+        OfflinePlayer next(OfflinePlayer[] players) {
+            if (index < 0) index = Math.floorMod(Thread.currentThread().hashCode(), players.length);
+            if (++index == players.length) index = 0;
+            return players[index];
+        }
+    }
+
+    @Benchmark
+    public double getBalance(Cursor cursor) {
+        return economy.getBalance(cursor.next(players));
+    }
+
+    @Benchmark
+    public double getBalanceWorld(Cursor cursor) {
+        return economy.getBalance(cursor.next(players), WORLD);
+    }
+
+    @Benchmark
+    public boolean has(Cursor cursor) {
+        return economy.has(cursor.next(players), 10);
+    }
+
+    @Benchmark
+    public EconomyResponse depositPlayer(Cursor cursor) {
+        return economy.depositPlayer(cursor.next(players), 1);
+    }
+
+    @Benchmark
+    public EconomyResponse withdrawPlayer(Cursor cursor) {
+        return economy.withdrawPlayer(cursor.next(players), 0.01);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public double getBalanceContended(Cursor cursor) {
+        return economy.getBalance(cursor.next(players));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public EconomyResponse depositPlayerContended(Cursor cursor) {
+        return economy.depositPlayer(cursor.next(players), 1);
+    }
+}
@@ -0,0 +1,78 @@
+package net.milkbowl.vault.benchmark;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+
+/**
+ * Measures the {@link net.milkbowl.vault.permission.Permission} player call paths.
+ * <p>
+ * {@code effectivePermissions} is the number of permissions other plugins granted the player,
+ * which {@link net.milkbowl.vault.permission.Permission#playerAddTransient(Player, String)} scans
+ * on every call to find the attachment of the providing plugin.
+ */
+@State(Scope.Benchmark)
+public class PermissionBenchmark {
+    private static final String WORLD = "world";
+
+    @Param({"0", "64"})
+    public int effectivePermissions;
+
+    private BenchmarkPermission permission;
+    private OfflinePlayer offlinePlayer;
+    private Player player;
+
+    @Setup
+    public void setup() {
+        Plugin plugin = BukkitStubs.plugin("Benchmark");
+        World world = BukkitStubs.world(WORLD);
+        UUID uniqueId = UUID.randomUUID();
+        offlinePlayer = BukkitStubs.offlinePlayer(uniqueId, "player");
+        player = BukkitStubs.player(uniqueId, "player", world, BukkitStubs.plugin("Other"), effectivePermissions);
+        permission = new BenchmarkPermission(plugin);
+        permission.groupAdd((String) null, "member", "group.permission");
+        permission.playerAdd((String) null, offlinePlayer, "player.permission");
+        permission.playerAddGroup((String) null, offlinePlayer, "member");
+        permission.playerAddTransient(player, "transient.permission");
+    }
+
+    @Benchmark
+    public boolean playerHas() {
+        return permission.playerHas(WORLD, offlinePlayer, "player.permission");
+    }
+
+    @Benchmark
+    public boolean playerHasThroughGroup() {
+        return permission.playerHas(WORLD, offlinePlayer, "group.permission");
+    }
+
+    @Benchmark
+    public boolean playerInGroup() {
+        return permission.playerInGroup(WORLD, offlinePlayer, "member");
+    }
+
+    @Benchmark
+    public String getPrimaryGroup() {
+        return permission.getPrimaryGroup(WORLD, offlinePlayer);
+    }
+
+    @Benchmark
+    public boolean playerAddTransient() {
+        return permission.playerAddTransient(player, "transient.permission");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean playerHasContended() {
+        return permission.playerHas(WORLD, offlinePlayer, "player.permission");
+    }
+}
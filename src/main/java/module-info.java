@@ -2,11 +2,17 @@
 
 // @NullMarked
 module net.thenextlvl.vault {
+    exports net.milkbowl.vault;
     exports net.milkbowl.vault.chat;
     exports net.milkbowl.vault.economy;
+    exports net.milkbowl.vault.economy.cluster;
+    exports net.milkbowl.vault.economy.journal;
+    exports net.milkbowl.vault.economy.trace;
+    exports net.milkbowl.vault.metrics;
     exports net.milkbowl.vault.permission;
 
     requires java.logging;
+    requires java.management;
     requires org.bukkit;
 
     requires static org.jspecify;
@@ -0,0 +1,137 @@
+package net.milkbowl.vault;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An interned handle for a world, or for the global context, to be resolved once and passed
+ * to the context taking overloads of the economy, permission and chat services.
+ * <p>
+ * Every world name maps to exactly one context, so contexts can be compared by identity.
+ * Each context has a small, dense {@link #id() id}, letting providers keep per-world data in arrays
+ * indexed by context id instead of maps keyed by world name:
+ * <pre>{@code
+ * double[] balances = new double[WorldContext.count()];
+ * balances[context.id()] = ...;
+ * }</pre>
+ * Contexts are never discarded, ids stay stable for the lifetime of the server.
+ */
+public final class WorldContext {
+    /**
+     * The global context, used for data that is not tied to a specific world, its id is always {@code 0}
+     */
+    public static final WorldContext GLOBAL = new WorldContext(0, null);
+
+    private static final Map<String, WorldContext> contexts = new ConcurrentHashMap<>();
+    private static volatile WorldContext[] byId = {GLOBAL};
+
+    private final int id;
+    private final @Nullable String name;
+
+    private WorldContext(int id, @Nullable String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * Gets the context of the world with the given name
+     *
+     * @param name the world name or {@code null} for the global context
+     * @return the interned context
+     */
+    public static WorldContext of(@Nullable String name) {
+        if (name == null) return GLOBAL;
+        WorldContext context = contexts.get(name);
+        return context != null ? context : intern(name);
+    }
+
+    /**
+     * Gets the context of the given world
+     *
+     * @param world the world or {@code null} for the global context
+     * @return the interned context
+     */
+    public static WorldContext of(@Nullable World world) {
+        return world != null ? of(world.getName()) : GLOBAL;
+    }
+
+    /**
+     * Gets the context of the world the player is currently in
+     *
+     * @param player the player
+     * @return the interned context
+     */
+    public static WorldContext of(Player player) {
+        return of(player.getWorld().getName());
+    }
+
+    /**
+     * Gets the context with the given id
+     *
+     * @param id the context id
+     * @return the context
+     * @throws IndexOutOfBoundsException if no context with the given id exists
+     */
+    public static WorldContext byId(int id) {
+        return byId[id];
+    }
+
+    /**
+     * Gets the number of contexts created so far, including the global context,
+     * every existing context having an id lower than this number
+     *
+     * @return the number of contexts
+     */
+    public static int count() {
+        return byId.length;
+    }
+
+    private static synchronized WorldContext intern(String name) {
+        WorldContext context = contexts.get(name);
+        if (context != null) return context;
+        WorldContext[] current = byId;
+        context = new WorldContext(current.length, name);
+        WorldContext[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[context.id] = context;
+        byId = updated;
+        contexts.put(name, context);
+        return context;
+    }
+
+    /**
+     * Gets the id of this context, {@code 0} for the global context
+     *
+     * @return the context id
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * Gets the name of the world of this context
+     *
+     * @return the world name or {@code null} for the global context
+     */
+    public @Nullable String getName() {
+        return name;
+    }
+
+    /**
+     * Checks if this is the global context
+     *
+     * @return true if this context is not tied to a specific world
+     */
+    public boolean isGlobal() {
+        return id == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "WorldContext[" + (name != null ? name : "global") + "]";
+    }
+}
@@ -15,6 +15,7 @@
 */
 package net.milkbowl.vault.chat;
 
+import net.milkbowl.vault.WorldContext;
 import net.milkbowl.vault.permission.Permission;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.World;
@@ -69,6 +70,19 @@ public abstract class Chat {
         return getPlayerPrefix(world, player.getName());
     }
 
+    /**
+     * Get a players prefix in the given world context.
+     * Providers can override this to look up world-specific prefixes by {@link WorldContext#id() context id}.
+     *
+     * @param player OfflinePlayer
+     * @param world  resolved world context, {@link WorldContext#GLOBAL} for the global prefix
+     * @return Prefix
+     * @see #getPlayerPrefix(String, OfflinePlayer)
+     */
+    public String getPlayerPrefix(OfflinePlayer player, WorldContext world) {
+        return getPlayerPrefix(world.getName(), player);
+    }
+
     /**
      * @param world  World Object
      * @param player Player name
@@ -161,6 +175,19 @@ public abstract class Chat {
         return getPlayerSuffix(world, player.getName());
     }
 
+    /**
+     * Get a players suffix in the given world context.
+     * Providers can override this to look up world-specific suffixes by {@link WorldContext#id() context id}.
+     *
+     * @param player OfflinePlayer
+     * @param world  resolved world context, {@link WorldContext#GLOBAL} for the global suffix
+     * @return Suffix
+     * @see #getPlayerSuffix(String, OfflinePlayer)
+     */
+    public String getPlayerSuffix(OfflinePlayer player, WorldContext world) {
+        return getPlayerSuffix(world.getName(), player);
+    }
+
     /**
      * @param world  World Object
      * @param player Player name
@@ -1,84 +1,825 @@
 package net.milkbowl.vault.economy;
 
+import net.milkbowl.vault.economy.journal.JournalOperation;
+import net.milkbowl.vault.economy.journal.TransactionJournal;
+import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.jspecify.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 @SuppressWarnings("deprecation")
-public abstract class AbstractEconomy implements Economy {
+public abstract class AbstractEconomy implements Economy, AsyncEconomy, AutoCloseable {
+    private static final Logger log = Logger.getLogger("Minecraft");
+    private static final ClassValue<Set<UniqueIdMethod>> UNIQUE_ID_METHODS = new ClassValue<>() {
+        @Override
+        protected Set<UniqueIdMethod> computeValue(Class<?> type) {
+            Set<UniqueIdMethod> methods = EnumSet.noneOf(UniqueIdMethod.class);
+            for (UniqueIdMethod method : UniqueIdMethod.values()) {
+                if (overrides(type, method.methodName, method.parameterTypes)) methods.add(method);
+            }
+            return methods;
+        }
+    };
+
+    private final Object[] accountLocks = new Object[64];
+    private volatile Executor asyncExecutor = ForkJoinPool.commonPool();
+    private volatile TransactionDeduplicator deduplicator = new TransactionDeduplicator(Duration.ofMinutes(5), 100_000);
+    private volatile @Nullable BalanceIndex balanceIndex;
+    private final BalanceChangePublisher balanceChanges = new BalanceChangePublisher();
+    private final AtomicLong modifications = new AtomicLong();
+    private volatile long snapshotModification = -1;
+    // routed per method, OfflinePlayer methods without a unique id based override keep forwarding the name
+    private final Set<UniqueIdMethod> uniqueIdMethods = UNIQUE_ID_METHODS.get(getClass());
+
+    {
+        Arrays.setAll(accountLocks, ignored -> new Object());
+    }
+
+    /**
+     * Gets the executor the {@link AsyncEconomy} adapter offloads synchronous calls onto.
+     *
+     * @return the executor used for asynchronous calls
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the executor the {@link AsyncEconomy} adapter offloads synchronous calls onto.
+     * <p>
+     * Defaults to the {@link ForkJoinPool#commonPool() common pool}.
+     * Providers performing blocking I/O should supply a dedicated executor.
+     *
+     * @param executor the executor to use for asynchronous calls
+     */
+    public void setAsyncExecutor(Executor executor) {
+        this.asyncExecutor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Gets the deduplicator remembering the responses of transactions carrying a transaction id.
+     *
+     * @return the transaction deduplicator
+     */
+    public TransactionDeduplicator getTransactionDeduplicator() {
+        return deduplicator;
+    }
+
+    /**
+     * Sets the deduplicator remembering the responses of transactions carrying a transaction id.
+     * <p>
+     * Defaults to a window of five minutes holding up to 100,000 transaction ids.
+     * The window should exceed the longest time a caller may retry a transaction.
+     *
+     * @param deduplicator the transaction deduplicator to use
+     */
+    public void setTransactionDeduplicator(TransactionDeduplicator deduplicator) {
+        this.deduplicator = Objects.requireNonNull(deduplicator, "deduplicator");
+    }
 
     @Override
     public boolean hasAccount(OfflinePlayer player) {
+        if (uniqueIdMethods.contains(UniqueIdMethod.HAS_ACCOUNT)) return hasAccount(player.getUniqueId(), null);
         return player.getName() != null && hasAccount(player.getName());
     }
 
     @Override
     public boolean hasAccount(OfflinePlayer player, @Nullable String worldName) {
+        if (uniqueIdMethods.contains(UniqueIdMethod.HAS_ACCOUNT)) return hasAccount(player.getUniqueId(), worldName);
         return player.getName() != null && hasAccount(player.getName(), worldName);
     }
 
     @Override
     public double getBalance(OfflinePlayer player) {
-        return getBalance(player.getName());
+        return uniqueIdMethods.contains(UniqueIdMethod.GET_BALANCE)
+                ? getBalance(player.getUniqueId(), null) : getBalance(player.getName());
     }
 
     @Override
     public double getBalance(OfflinePlayer player, @Nullable String world) {
-        return getBalance(player.getName(), world);
+        return uniqueIdMethods.contains(UniqueIdMethod.GET_BALANCE)
+                ? getBalance(player.getUniqueId(), world) : getBalance(player.getName(), world);
     }
 
     @Override
     public boolean has(OfflinePlayer player, double amount) {
+        if (uniqueIdMethods.contains(UniqueIdMethod.HAS)) return has(player.getUniqueId(), null, amount);
         return player.getName() != null && has(player.getName(), amount);
     }
 
     @Override
     public boolean has(OfflinePlayer player, @Nullable String worldName, double amount) {
+        if (uniqueIdMethods.contains(UniqueIdMethod.HAS)) return has(player.getUniqueId(), worldName, amount);
         return player.getName() != null && has(player.getName(), worldName, amount);
     }
 
     @Override
     public EconomyResponse withdrawPlayer(OfflinePlayer player, double amount) {
-        return withdrawPlayer(player.getName(), amount);
+        return changed(player.getUniqueId(), null, uniqueIdMethods.contains(UniqueIdMethod.WITHDRAW_PLAYER)
+                ? withdrawPlayer(player.getUniqueId(), null, amount) : withdrawPlayer(player.getName(), amount));
     }
 
     @Override
     public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
-        return withdrawPlayer(player.getName(), worldName, amount);
+        return changed(player.getUniqueId(), worldName, uniqueIdMethods.contains(UniqueIdMethod.WITHDRAW_PLAYER)
+                ? withdrawPlayer(player.getUniqueId(), worldName, amount) : withdrawPlayer(player.getName(), worldName, amount));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The default implementation calls {@link #withdrawPlayer(OfflinePlayer, String, double)} through the
+     * {@link #getTransactionDeduplicator() transaction deduplicator}, which only remembers transaction ids in memory.
+     * Providers backed by shared storage should override this to record the id along with the transaction.
+     */
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        return deduplicator.apply(transactionId, () -> withdrawPlayer(player, worldName, amount));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The default implementation checks the balance and withdraws while holding a per-account lock.
+     * This only guards against concurrent calls of this method, providers should override it with a
+     * compare-and-set or conditional update of their storage.
+     */
+    @Override
+    public EconomyResponse withdrawIfAtLeast(OfflinePlayer player, @Nullable String worldName, double amount, double floor) {
+        synchronized (accountLocks[Math.floorMod(player.getUniqueId().hashCode(), accountLocks.length)]) {
+            double balance = getBalance(player, worldName);
+            if (balance - amount < floor) return new EconomyResponse(0, balance,
+                    EconomyResponse.ResponseType.FAILURE, "Insufficient funds");
+            return withdrawPlayer(player, worldName, amount);
+        }
     }
 
     @Override
     public EconomyResponse depositPlayer(OfflinePlayer player, double amount) {
-        return depositPlayer(player.getName(), amount);
+        return changed(player.getUniqueId(), null, uniqueIdMethods.contains(UniqueIdMethod.DEPOSIT_PLAYER)
+                ? depositPlayer(player.getUniqueId(), null, amount) : depositPlayer(player.getName(), amount));
     }
 
     @Override
     public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
-        return depositPlayer(player.getName(), worldName, amount);
+        return changed(player.getUniqueId(), worldName, uniqueIdMethods.contains(UniqueIdMethod.DEPOSIT_PLAYER)
+                ? depositPlayer(player.getUniqueId(), worldName, amount) : depositPlayer(player.getName(), worldName, amount));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The default implementation calls {@link #depositPlayer(OfflinePlayer, String, double)} through the
+     * {@link #getTransactionDeduplicator() transaction deduplicator}, which only remembers transaction ids in memory.
+     * Providers backed by shared storage should override this to record the id along with the transaction.
+     */
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        return deduplicator.apply(transactionId, () -> depositPlayer(player, worldName, amount));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The default implementation answers from the {@link #enableBalanceIndex() balance index}
+     * and returns no balances if it is not enabled.
+     */
+    @Override
+    public Balances topBalances(int limit, @Nullable String world) {
+        BalanceIndex index = balanceIndex;
+        return index != null ? index.top(limit, world) : Balances.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The default implementation answers from the {@link #enableBalanceIndex() balance index}
+     * and returns {@code -1} if it is not enabled.
+     */
+    @Override
+    public int rankOf(OfflinePlayer player, @Nullable String world) {
+        BalanceIndex index = balanceIndex;
+        return index != null ? index.rankOf(player.getUniqueId(), world) : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The default implementation publishes every {@link #balanceChanged(UUID, String, double) balance change},
+     * coalescing the changes of one server tick into a batch.
+     */
+    @Override
+    public BalanceChangePublisher balanceChanges() {
+        return balanceChanges;
+    }
+
+    /**
+     * Publishes the pending balance changes and completes all subscriptions of the
+     * {@link #balanceChanges() balance change publisher}, to be called when the provider is disabled.
+     * Balance changes made afterwards are no longer published.
+     */
+    @Override
+    public void close() {
+        balanceChanges.close();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The default implementation collects the accounts passed to {@link #forEachBalance(BalanceSnapshot.Visitor)}.
+     */
+    @Override
+    public Spliterator<UUID> accounts(@Nullable String world) {
+        List<UUID> accounts = new ArrayList<>();
+        forEachBalance((uniqueId, accountWorld, balance) -> {
+            if (Objects.equals(world, accountWorld)) accounts.add(uniqueId);
+        });
+        return accounts.spliterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The default implementation enumerates the {@link #accounts(String) accounts} and updates them in parallel
+     * on the {@link #getAsyncExecutor() async executor} through {@link BulkOperation#start(Supplier, Executor, Predicate)},
+     * depositing or withdrawing the difference to the new balance through the unique id based methods.
+     * Providers should override this to update their storage directly and in batches.
+     */
+    @Override
+    public BulkOperation applyToAll(DoubleUnaryOperator function, @Nullable String world) {
+        return BulkOperation.start(() -> accounts(world), asyncExecutor, uniqueId -> apply(uniqueId, world, function));
+    }
+
+    private boolean apply(UUID uniqueId, @Nullable String world, DoubleUnaryOperator function) {
+        double balance = getBalance(uniqueId, world);
+        double updated = function.applyAsDouble(balance);
+        if (!Double.isFinite(updated) || updated < 0 || updated == balance) return false;
+        double difference = updated - balance;
+        return changed(uniqueId, world, difference > 0 ? depositPlayer(uniqueId, world, difference)
+                : withdrawPlayer(uniqueId, world, -difference)).transactionSuccess();
     }
 
     @Override
     public EconomyResponse createBank(String name, OfflinePlayer player) {
-        return createBank(name, player.getName());
+        return uniqueIdMethods.contains(UniqueIdMethod.CREATE_BANK)
+                ? createBank(name, player.getUniqueId()) : createBank(name, player.getName());
     }
 
     @Override
     public EconomyResponse isBankOwner(String name, OfflinePlayer player) {
-        return isBankOwner(name, player.getName());
+        return uniqueIdMethods.contains(UniqueIdMethod.IS_BANK_OWNER)
+                ? isBankOwner(name, player.getUniqueId()) : isBankOwner(name, player.getName());
     }
 
     @Override
     public EconomyResponse isBankMember(String name, OfflinePlayer player) {
-        return isBankMember(name, player.getName());
+        return uniqueIdMethods.contains(UniqueIdMethod.IS_BANK_MEMBER)
+                ? isBankMember(name, player.getUniqueId()) : isBankMember(name, player.getName());
     }
 
     @Override
     public boolean createPlayerAccount(OfflinePlayer player) {
+        if (uniqueIdMethods.contains(UniqueIdMethod.CREATE_PLAYER_ACCOUNT))
+            return createPlayerAccount(player.getUniqueId(), null);
         return player.getName() != null && createPlayerAccount(player.getName());
     }
 
     @Override
     public boolean createPlayerAccount(OfflinePlayer player, @Nullable String worldName) {
+        if (uniqueIdMethods.contains(UniqueIdMethod.CREATE_PLAYER_ACCOUNT))
+            return createPlayerAccount(player.getUniqueId(), worldName);
         return player.getName() != null && createPlayerAccount(player.getName(), worldName);
     }
 
+    /**
+     * Enables the {@link BalanceIndex} backing {@link #topBalances(int, String)} and {@link #rankOf(OfflinePlayer, String)}.
+     * <p>
+     * Once enabled, every successful player withdrawal and deposit made through the {@link OfflinePlayer}
+     * methods updates the index. Providers should seed the returned index with all existing accounts
+     * and report balance changes made elsewhere through {@link #balanceChanged(UUID, String, double)}.
+     *
+     * @return the balance index
+     */
+    protected BalanceIndex enableBalanceIndex() {
+        BalanceIndex index = balanceIndex;
+        if (index != null) return index;
+        synchronized (this) {
+            if (balanceIndex == null) balanceIndex = new BalanceIndex();
+            return Objects.requireNonNull(balanceIndex);
+        }
+    }
+
+    /**
+     * Gets the {@link BalanceIndex} of this economy
+     *
+     * @return the balance index or {@code null} if it was not {@link #enableBalanceIndex() enabled}
+     */
+    public @Nullable BalanceIndex getBalanceIndex() {
+        return balanceIndex;
+    }
+
+    /**
+     * Called after the balance of a player account changed.
+     * <p>
+     * Invoked for every successful withdrawal and deposit made through the {@link OfflinePlayer} methods.
+     * Providers changing balances in other ways, e.g. by overriding those methods, should call this themselves.
+     *
+     * @param uniqueId of the player
+     * @param world    name of the world or {@code null} for the global account
+     * @param balance  the new balance
+     */
+    protected void balanceChanged(UUID uniqueId, @Nullable String world, double balance) {
+        modifications.incrementAndGet();
+        BalanceIndex index = balanceIndex;
+        if (index != null) index.update(uniqueId, world, balance);
+        balanceChanges.changed(uniqueId, world, balance);
+    }
+
+    private EconomyResponse changed(UUID uniqueId, @Nullable String world, EconomyResponse response) {
+        if (response.transactionSuccess()) balanceChanged(uniqueId, world, response.balance);
+        return response;
+    }
+
+    /**
+     * Writes a {@link BalanceSnapshot snapshot} of all player balances to the given file.
+     *
+     * @param file the file to write
+     * @return the number of written balances
+     * @throws IOException                   if the snapshot could not be written
+     * @throws UnsupportedOperationException if this economy does not
+     *                                       {@link #forEachBalance(BalanceSnapshot.Visitor) enumerate} its balances
+     */
+    public int snapshot(Path file) throws IOException {
+        long modification = modifications.get();
+        int count = BalanceSnapshot.write(file, fractionalDigits(), this::forEachBalance);
+        snapshotModification = modification;
+        return count;
+    }
+
+    /**
+     * Restores all player balances stored in the given {@link BalanceSnapshot snapshot}.
+     * <p>
+     * Accounts missing from the snapshot are left untouched.
+     *
+     * @param file the snapshot to read
+     * @return the number of restored balances
+     * @throws IOException if the snapshot could not be read
+     * @see #restoreBalance(UUID, String, double)
+     */
+    public int restore(Path file) throws IOException {
+        int count = BalanceSnapshot.read(file, this::restoreBalance);
+        snapshotModification = modifications.get();
+        return count;
+    }
+
+    /**
+     * Replays the player balances recorded in a {@link TransactionJournal journal}, e.g. to recover the changes
+     * made since the {@link #restore(Path) restored} snapshot was written.
+     * <p>
+     * Every withdrawal and deposit record sets the balance of its account to the balance recorded after the mutation.
+     * Bank records and records without a balance are skipped.
+     *
+     * @param directory    the directory the journal segments are stored in
+     * @param fromSequence the first sequence number to replay,
+     *                     e.g. the {@link TransactionJournal#getNextSequence() next sequence number} when the snapshot was written
+     * @return the number of replayed records
+     * @throws IOException if the journal could not be read
+     * @see #restoreBalance(UUID, String, double)
+     */
+    public long replay(Path directory, long fromSequence) throws IOException {
+        LongAdder count = new LongAdder();
+        TransactionJournal.replay(directory, fromSequence, record -> {
+            UUID uniqueId = record.uniqueId();
+            if (uniqueId == null || Double.isNaN(record.balance())) return;
+            if (record.operation() != JournalOperation.WITHDRAW && record.operation() != JournalOperation.DEPOSIT) return;
+            restoreBalance(uniqueId, record.name(), record.balance());
+            count.increment();
+        });
+        return count.sum();
+    }
+
+    /**
+     * Periodically writes a {@link #snapshot(Path) snapshot} to the given file in the background.
+     * <p>
+     * A run is skipped if no {@link #balanceChanged(UUID, String, double) balance changed} since the last
+     * snapshot was written or restored. Failures are logged and do not cancel later runs.
+     *
+     * @param file     the file to write
+     * @param executor the executor to write snapshots on
+     * @param interval the delay between the end of a run and the start of the next one
+     * @return the future of the scheduled task, used to cancel it
+     */
+    public ScheduledFuture<?> scheduleSnapshots(Path file, ScheduledExecutorService executor, Duration interval) {
+        if (interval.isNegative() || interval.isZero())
+            throw new IllegalArgumentException("Interval must be positive: " + interval);
+        long nanos = interval.toNanos();
+        return executor.scheduleWithFixedDelay(() -> {
+            if (modifications.get() == snapshotModification) return;
+            try {
+                snapshot(file);
+            } catch (IOException | RuntimeException e) {
+                log.log(Level.SEVERE, String.format("[%s] Failed to write balance snapshot %s", getName(), file), e);
+            }
+        }, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Passes the balance of every player account to the given visitor, used to write {@link #snapshot(Path) snapshots}.
+     *
+     * @param visitor receiving the balances
+     * @implSpec The default implementation throws an {@link UnsupportedOperationException}.
+     * Providers supporting snapshots should override this to iterate their storage.
+     */
+    protected void forEachBalance(BalanceSnapshot.Visitor visitor) {
+        throw new UnsupportedOperationException(getName() + " does not support balance snapshots");
+    }
+
+    /**
+     * Sets the balance of a player account while {@link #restore(Path) restoring} a snapshot
+     * or {@link #replay(Path, long) replaying} a journal.
+     *
+     * @param uniqueId of the account holder
+     * @param world    name of the world or {@code null} for the global account
+     * @param balance  the balance to restore
+     * @implSpec The default implementation creates missing accounts and deposits or withdraws the difference to the
+     * current balance through the unique id based methods. Providers should override this to set the balance directly.
+     */
+    protected void restoreBalance(UUID uniqueId, @Nullable String world, double balance) {
+        if (!hasAccount(uniqueId, world)) createPlayerAccount(uniqueId, world);
+        double difference = balance - getBalance(uniqueId, world);
+        EconomyResponse response = difference > 0 ? depositPlayer(uniqueId, world, difference)
+                : difference < 0 ? withdrawPlayer(uniqueId, world, -difference) : null;
+        if (response == null || response.transactionSuccess()) balanceChanged(uniqueId, world, balance);
+        else log.warning(String.format("[%s] Failed to restore balance of %s: %s", getName(), uniqueId, response.errorMessage));
+    }
+
+    /**
+     * Resolves the name of a player for the deprecated name-based methods.
+     * <p>
+     * Only called by the default implementations of the unique id based methods, which serve callers
+     * having nothing but a unique id, like {@link #restore(Path) restores} and {@link #applyToAll bulk updates}.
+     * Each {@link OfflinePlayer} method passes the name of the player on directly unless a provider overrides
+     * its unique id based counterpart. Providers storing names themselves may override this to avoid the server lookup.
+     *
+     * @param uniqueId of the player
+     * @return the name of the player or {@code null} if unknown
+     */
+    protected @Nullable String resolveName(UUID uniqueId) {
+        return Bukkit.getOfflinePlayer(uniqueId).getName();
+    }
+
+    private static EconomyResponse unknownPlayer(UUID uniqueId) {
+        return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "Unknown player: " + uniqueId);
+    }
+
+    private static boolean overrides(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes).getDeclaringClass() != AbstractEconomy.class;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private enum UniqueIdMethod {
+        HAS_ACCOUNT("hasAccount", UUID.class, String.class),
+        GET_BALANCE("getBalance", UUID.class, String.class),
+        HAS("has", UUID.class, String.class, double.class),
+        WITHDRAW_PLAYER("withdrawPlayer", UUID.class, String.class, double.class),
+        DEPOSIT_PLAYER("depositPlayer", UUID.class, String.class, double.class),
+        CREATE_PLAYER_ACCOUNT("createPlayerAccount", UUID.class, String.class),
+        CREATE_BANK("createBank", String.class, UUID.class),
+        IS_BANK_OWNER("isBankOwner", String.class, UUID.class),
+        IS_BANK_MEMBER("isBankMember", String.class, UUID.class);
+
+        private final String methodName;
+        private final Class<?>[] parameterTypes;
+
+        UniqueIdMethod(String methodName, Class<?>... parameterTypes) {
+            this.methodName = methodName;
+            this.parameterTypes = parameterTypes;
+        }
+    }
+
+    /**
+     * Checks if the player with the given unique id has an account, optionally on the given world.
+     *
+     * @param uniqueId  of the player
+     * @param worldName world-specific account or {@code null} for the global account
+     * @return if the player has an account
+     * @implSpec The default implementation bridges to the deprecated name-based methods through {@link #resolveName(UUID)}.
+     * Providers keying accounts by unique id should override this method, which makes the {@link OfflinePlayer}
+     * methods call it instead of the name-based methods.
+     */
+    public boolean hasAccount(UUID uniqueId, @Nullable String worldName) {
+        String name = resolveName(uniqueId);
+        if (name == null) return false;
+        return hasAccount(name, worldName);
+    }
+
+    /**
+     * Gets balance of the player with the given unique id, optionally on the given world.
+     *
+     * @param uniqueId of the player
+     * @param world    name of the world or {@code null} for the global balance
+     * @return Amount currently held in players account
+     * @implSpec The default implementation bridges to the deprecated name-based methods through {@link #resolveName(UUID)}.
+     * Providers keying accounts by unique id should override this method, which makes the {@link OfflinePlayer}
+     * methods call it instead of the name-based methods.
+     */
+    public double getBalance(UUID uniqueId, @Nullable String world) {
+        String name = resolveName(uniqueId);
+        if (name == null) return 0;
+        return getBalance(name, world);
+    }
+
+    /**
+     * Checks if the account of the player with the given unique id has the amount - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param uniqueId  of the player
+     * @param worldName name of the world or {@code null} for the global account
+     * @param amount    to check for
+     * @return True if the player has <b>amount</b>, False else wise
+     * @implSpec The default implementation bridges to the deprecated name-based methods through {@link #resolveName(UUID)}.
+     * Providers keying accounts by unique id should override this method, which makes the {@link OfflinePlayer}
+     * methods call it instead of the name-based methods.
+     */
+    public boolean has(UUID uniqueId, @Nullable String worldName, double amount) {
+        String name = resolveName(uniqueId);
+        if (name == null) return false;
+        return has(name, worldName, amount);
+    }
+
+    /**
+     * Withdraw an amount from the player with the given unique id - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param uniqueId  of the player
+     * @param worldName name of the world or {@code null} for the global account
+     * @param amount    Amount to withdraw
+     * @return Detailed response of transaction
+     * @implSpec The default implementation bridges to the deprecated name-based methods through {@link #resolveName(UUID)}.
+     * Providers keying accounts by unique id should override this method, which makes the {@link OfflinePlayer}
+     * methods call it instead of the name-based methods.
+     */
+    public EconomyResponse withdrawPlayer(UUID uniqueId, @Nullable String worldName, double amount) {
+        String name = resolveName(uniqueId);
+        if (name == null) return unknownPlayer(uniqueId);
+        return withdrawPlayer(name, worldName, amount);
+    }
+
+    /**
+     * Deposit an amount to the player with the given unique id - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param uniqueId  of the player
+     * @param worldName name of the world or {@code null} for the global account
+     * @param amount    Amount to deposit
+     * @return Detailed response of transaction
+     * @implSpec The default implementation bridges to the deprecated name-based methods through {@link #resolveName(UUID)}.
+     * Providers keying accounts by unique id should override this method, which makes the {@link OfflinePlayer}
+     * methods call it instead of the name-based methods.
+     */
+    public EconomyResponse depositPlayer(UUID uniqueId, @Nullable String worldName, double amount) {
+        String name = resolveName(uniqueId);
+        if (name == null) return unknownPlayer(uniqueId);
+        return depositPlayer(name, worldName, amount);
+    }
+
+    /**
+     * Creates a bank account with the specified name and the player with the given unique id as the owner
+     *
+     * @param name     of account
+     * @param uniqueId of the player the account should be linked to
+     * @return EconomyResponse Object
+     * @implSpec The default implementation bridges to the deprecated name-based methods through {@link #resolveName(UUID)}.
+     * Providers keying accounts by unique id should override this method, which makes the {@link OfflinePlayer}
+     * methods call it instead of the name-based methods.
+     */
+    public EconomyResponse createBank(String name, UUID uniqueId) {
+        String playerName = resolveName(uniqueId);
+        if (playerName == null) return unknownPlayer(uniqueId);
+        return createBank(name, playerName);
+    }
+
+    /**
+     * Check if the player with the given unique id is the owner of a bank account
+     *
+     * @param name     of the account
+     * @param uniqueId of the player to check for ownership
+     * @return EconomyResponse Object
+     * @implSpec The default implementation bridges to the deprecated name-based methods through {@link #resolveName(UUID)}.
+     * Providers keying accounts by unique id should override this method, which makes the {@link OfflinePlayer}
+     * methods call it instead of the name-based methods.
+     */
+    public EconomyResponse isBankOwner(String name, UUID uniqueId) {
+        String playerName = resolveName(uniqueId);
+        if (playerName == null) return unknownPlayer(uniqueId);
+        return isBankOwner(name, playerName);
+    }
+
+    /**
+     * Check if the player with the given unique id is a member of the bank account
+     *
+     * @param name     of the account
+     * @param uniqueId of the player to check membership
+     * @return EconomyResponse Object
+     * @implSpec The default implementation bridges to the deprecated name-based methods through {@link #resolveName(UUID)}.
+     * Providers keying accounts by unique id should override this method, which makes the {@link OfflinePlayer}
+     * methods call it instead of the name-based methods.
+     */
+    public EconomyResponse isBankMember(String name, UUID uniqueId) {
+        String playerName = resolveName(uniqueId);
+        if (playerName == null) return unknownPlayer(uniqueId);
+        return isBankMember(name, playerName);
+    }
+
+    /**
+     * Attempts to create an account for the player with the given unique id, optionally on the given world.
+     *
+     * @param uniqueId  of the player
+     * @param worldName name of the world or {@code null} for the global account
+     * @return if the account creation was successful
+     * @implSpec The default implementation bridges to the deprecated name-based methods through {@link #resolveName(UUID)}.
+     * Providers keying accounts by unique id should override this method, which makes the {@link OfflinePlayer}
+     * methods call it instead of the name-based methods.
+     */
+    public boolean createPlayerAccount(UUID uniqueId, @Nullable String worldName) {
+        String name = resolveName(uniqueId);
+        if (name == null) return false;
+        return createPlayerAccount(name, worldName);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> hasAccountAsync(OfflinePlayer player) {
+        return CompletableFuture.supplyAsync(() -> hasAccount(player), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> hasAccountAsync(OfflinePlayer player, @Nullable String worldName) {
+        return CompletableFuture.supplyAsync(() -> hasAccount(player, worldName), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Double> getBalanceAsync(OfflinePlayer player) {
+        return CompletableFuture.supplyAsync(() -> getBalance(player), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Double> getBalanceAsync(OfflinePlayer player, @Nullable String world) {
+        return CompletableFuture.supplyAsync(() -> getBalance(player, world), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Balances> getBalancesAsync(Collection<? extends OfflinePlayer> players, @Nullable String world) {
+        return CompletableFuture.supplyAsync(() -> getBalances(players, world), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> hasAsync(OfflinePlayer player, double amount) {
+        return CompletableFuture.supplyAsync(() -> has(player, amount), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> hasAsync(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return CompletableFuture.supplyAsync(() -> has(player, worldName, amount), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> withdrawPlayerAsync(OfflinePlayer player, double amount) {
+        return CompletableFuture.supplyAsync(() -> withdrawPlayer(player, amount), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> withdrawPlayerAsync(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return CompletableFuture.supplyAsync(() -> withdrawPlayer(player, worldName, amount), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> withdrawPlayerAsync(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        return CompletableFuture.supplyAsync(() -> withdrawPlayer(player, worldName, amount, transactionId), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> withdrawIfAtLeastAsync(OfflinePlayer player, @Nullable String worldName, double amount, double floor) {
+        return CompletableFuture.supplyAsync(() -> withdrawIfAtLeast(player, worldName, amount, floor), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> depositPlayerAsync(OfflinePlayer player, double amount) {
+        return CompletableFuture.supplyAsync(() -> depositPlayer(player, amount), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> depositPlayerAsync(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return CompletableFuture.supplyAsync(() -> depositPlayer(player, worldName, amount), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> depositPlayerAsync(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        return CompletableFuture.supplyAsync(() -> depositPlayer(player, worldName, amount, transactionId), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<TransferResponse> transferAsync(OfflinePlayer from, OfflinePlayer to, @Nullable String world, double amount) {
+        return CompletableFuture.supplyAsync(() -> transfer(from, to, world, amount), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> createBankAsync(String name, OfflinePlayer player) {
+        return CompletableFuture.supplyAsync(() -> createBank(name, player), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> deleteBankAsync(String name) {
+        return CompletableFuture.supplyAsync(() -> deleteBank(name), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> bankBalanceAsync(String name) {
+        return CompletableFuture.supplyAsync(() -> bankBalance(name), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> bankHasAsync(String name, double amount) {
+        return CompletableFuture.supplyAsync(() -> bankHas(name, amount), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> bankWithdrawAsync(String name, double amount) {
+        return CompletableFuture.supplyAsync(() -> bankWithdraw(name, amount), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> bankDepositAsync(String name, double amount) {
+        return CompletableFuture.supplyAsync(() -> bankDeposit(name, amount), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> isBankOwnerAsync(String name, OfflinePlayer player) {
+        return CompletableFuture.supplyAsync(() -> isBankOwner(name, player), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<EconomyResponse> isBankMemberAsync(String name, OfflinePlayer player) {
+        return CompletableFuture.supplyAsync(() -> isBankMember(name, player), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Set<String>> banksOfAsync(OfflinePlayer player) {
+        return CompletableFuture.supplyAsync(() -> banksOf(player), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Set<UUID>> membersOfAsync(String name) {
+        return CompletableFuture.supplyAsync(() -> membersOf(name), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getBanksAsync() {
+        return CompletableFuture.supplyAsync(this::getBanks, asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getBanksAsync(@Nullable String prefix, @Nullable String after, int limit) {
+        return CompletableFuture.supplyAsync(() -> getBanks(prefix, after, limit), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Double>> bankBalancesAsync(Collection<String> names) {
+        return CompletableFuture.supplyAsync(() -> bankBalances(names), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> createPlayerAccountAsync(OfflinePlayer player) {
+        return CompletableFuture.supplyAsync(() -> createPlayerAccount(player), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> createPlayerAccountAsync(OfflinePlayer player, @Nullable String worldName) {
+        return CompletableFuture.supplyAsync(() -> createPlayerAccount(player, worldName), asyncExecutor);
+    }
 }
@@ -0,0 +1,61 @@
+package net.milkbowl.vault.economy;
+
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A handle to a player account, optionally scoped to a world.
+ * <p>
+ * Providers may bind handles directly to their in-memory account records, so that operations on a handle
+ * skip resolving the account from the player and world on every call.
+ * Handles can be kept for as long as the player is online.
+ *
+ * @see Economy#account(OfflinePlayer, String)
+ */
+public interface Account {
+
+    /**
+     * Gets the holder of this account
+     *
+     * @return the account holder
+     */
+    OfflinePlayer getPlayer();
+
+    /**
+     * Gets the name of the world this account is scoped to
+     *
+     * @return name of the world or {@code null} for the global account
+     */
+    @Nullable String getWorld();
+
+    /**
+     * Gets the balance of this account
+     *
+     * @return Amount currently held in the account
+     */
+    double balance();
+
+    /**
+     * Checks if this account has the amount - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param amount to check for
+     * @return True if the account has <b>amount</b>, False else wise
+     */
+    boolean has(double amount);
+
+    /**
+     * Withdraw an amount from this account - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param amount Amount to withdraw
+     * @return Detailed response of transaction
+     */
+    EconomyResponse withdraw(double amount);
+
+    /**
+     * Deposit an amount to this account - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param amount Amount to deposit
+     * @return Detailed response of transaction
+     */
+    EconomyResponse deposit(double amount);
+}
@@ -0,0 +1,14 @@
+package net.milkbowl.vault.economy;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Identifies a player account, optionally scoped to a world.
+ *
+ * @param uniqueId the unique id of the account holder
+ * @param world    the name of the world or {@code null} for the global account
+ */
+record AccountKey(UUID uniqueId, @Nullable String world) {
+}
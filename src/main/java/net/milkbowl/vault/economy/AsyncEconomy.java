@@ -0,0 +1,332 @@
+package net.milkbowl.vault.economy;
+
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of the {@link Economy} API.
+ * <p>
+ * Every method mirrors its synchronous counterpart in {@link Economy} but returns a {@link CompletableFuture}
+ * that completes once the provider has finished the operation.
+ * Natively asynchronous providers can implement this interface directly and perform non-blocking I/O end to end,
+ * while synchronous providers extending {@link AbstractEconomy} get an executor-backed adapter for free.
+ * <p>
+ * Futures may complete on any thread, do not interact with the Bukkit API from their callbacks
+ * without scheduling back onto the main thread.
+ *
+ * @see AbstractEconomy#setAsyncExecutor(java.util.concurrent.Executor)
+ */
+public interface AsyncEconomy {
+
+    /**
+     * Asynchronously checks if this player has an account on the server.
+     *
+     * @param player to check
+     * @return future completing with whether the player has an account
+     * @see Economy#hasAccount(OfflinePlayer)
+     */
+    CompletableFuture<Boolean> hasAccountAsync(OfflinePlayer player);
+
+    /**
+     * Asynchronously checks if this player has an account on the server on the given world.
+     *
+     * @param player    to check in the world
+     * @param worldName world-specific account
+     * @return future completing with whether the player has an account
+     * @see Economy#hasAccount(OfflinePlayer, String)
+     */
+    CompletableFuture<Boolean> hasAccountAsync(OfflinePlayer player, @Nullable String worldName);
+
+    /**
+     * Asynchronously gets the balance of a player.
+     *
+     * @param player of the player
+     * @return future completing with the amount currently held in the players account
+     * @see Economy#getBalance(OfflinePlayer)
+     */
+    CompletableFuture<Double> getBalanceAsync(OfflinePlayer player);
+
+    /**
+     * Asynchronously gets the balance of a player on the specified world.
+     *
+     * @param player to check
+     * @param world  name of the world
+     * @return future completing with the amount currently held in the players account
+     * @see Economy#getBalance(OfflinePlayer, String)
+     */
+    CompletableFuture<Double> getBalanceAsync(OfflinePlayer player, @Nullable String world);
+
+    /**
+     * Asynchronously gets the balances of multiple players on the specified world.
+     *
+     * @param players to check
+     * @param world   name of the world
+     * @return future completing with the balances of all given players
+     * @see Economy#getBalances(Collection, String)
+     */
+    CompletableFuture<Balances> getBalancesAsync(Collection<? extends OfflinePlayer> players, @Nullable String world);
+
+    /**
+     * Asynchronously checks if the player account has the amount - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param player to check
+     * @param amount to check for
+     * @return future completing with true if <b>player</b> has <b>amount</b>, false else wise
+     * @see Economy#has(OfflinePlayer, double)
+     */
+    CompletableFuture<Boolean> hasAsync(OfflinePlayer player, double amount);
+
+    /**
+     * Asynchronously checks if the player account has the amount in a given world - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param player    to check
+     * @param worldName to check with
+     * @param amount    to check for
+     * @return future completing with true if <b>player</b> has <b>amount</b>, false else wise
+     * @see Economy#has(OfflinePlayer, String, double)
+     */
+    CompletableFuture<Boolean> hasAsync(OfflinePlayer player, @Nullable String worldName, double amount);
+
+    /**
+     * Asynchronously withdraws an amount from a player - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param player to withdraw from
+     * @param amount Amount to withdraw
+     * @return future completing with the detailed response of the transaction
+     * @see Economy#withdrawPlayer(OfflinePlayer, double)
+     */
+    CompletableFuture<EconomyResponse> withdrawPlayerAsync(OfflinePlayer player, double amount);
+
+    /**
+     * Asynchronously withdraws an amount from a player on a given world - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param player    to withdraw from
+     * @param worldName name of the world
+     * @param amount    Amount to withdraw
+     * @return future completing with the detailed response of the transaction
+     * @see Economy#withdrawPlayer(OfflinePlayer, String, double)
+     */
+    CompletableFuture<EconomyResponse> withdrawPlayerAsync(OfflinePlayer player, @Nullable String worldName, double amount);
+
+    /**
+     * Asynchronously withdraws an amount from a player on a given world at most once per transaction id
+     * - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param player        to withdraw from
+     * @param worldName     name of the world
+     * @param amount        Amount to withdraw
+     * @param transactionId caller-supplied id identifying this withdrawal across retries
+     * @return future completing with the detailed response of the transaction
+     * @see Economy#withdrawPlayer(OfflinePlayer, String, double, UUID)
+     */
+    CompletableFuture<EconomyResponse> withdrawPlayerAsync(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId);
+
+    /**
+     * Asynchronously withdraws an amount from a player only if the remaining balance does not drop below a floor
+     * - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param player    to withdraw from
+     * @param worldName name of the world
+     * @param amount    Amount to withdraw
+     * @param floor     the minimum balance the account must keep after the withdrawal
+     * @return future completing with the detailed response of the transaction
+     * @see Economy#withdrawIfAtLeast(OfflinePlayer, String, double, double)
+     */
+    CompletableFuture<EconomyResponse> withdrawIfAtLeastAsync(OfflinePlayer player, @Nullable String worldName, double amount, double floor);
+
+    /**
+     * Asynchronously deposits an amount to a player - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param player to deposit to
+     * @param amount Amount to deposit
+     * @return future completing with the detailed response of the transaction
+     * @see Economy#depositPlayer(OfflinePlayer, double)
+     */
+    CompletableFuture<EconomyResponse> depositPlayerAsync(OfflinePlayer player, double amount);
+
+    /**
+     * Asynchronously deposits an amount to a player on a given world - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param player    to deposit to
+     * @param worldName name of the world
+     * @param amount    Amount to deposit
+     * @return future completing with the detailed response of the transaction
+     * @see Economy#depositPlayer(OfflinePlayer, String, double)
+     */
+    CompletableFuture<EconomyResponse> depositPlayerAsync(OfflinePlayer player, @Nullable String worldName, double amount);
+
+    /**
+     * Asynchronously deposits an amount to a player on a given world at most once per transaction id
+     * - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param player        to deposit to
+     * @param worldName     name of the world
+     * @param amount        Amount to deposit
+     * @param transactionId caller-supplied id identifying this deposit across retries
+     * @return future completing with the detailed response of the transaction
+     * @see Economy#depositPlayer(OfflinePlayer, String, double, UUID)
+     */
+    CompletableFuture<EconomyResponse> depositPlayerAsync(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId);
+
+    /**
+     * Asynchronously transfers an amount from one player to another - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param from   to withdraw from
+     * @param to     to deposit to
+     * @param world  name of the world
+     * @param amount Amount to transfer
+     * @return future completing with the detailed response of the transaction
+     * @see Economy#transfer(OfflinePlayer, OfflinePlayer, String, double)
+     */
+    CompletableFuture<TransferResponse> transferAsync(OfflinePlayer from, OfflinePlayer to, @Nullable String world, double amount);
+
+    /**
+     * Asynchronously creates a bank account with the specified name and the player as the owner
+     *
+     * @param name   of account
+     * @param player the account should be linked to
+     * @return future completing with the EconomyResponse Object
+     * @see Economy#createBank(String, OfflinePlayer)
+     */
+    CompletableFuture<EconomyResponse> createBankAsync(String name, OfflinePlayer player);
+
+    /**
+     * Asynchronously deletes a bank account with the specified name.
+     *
+     * @param name of the back to delete
+     * @return future completing with the EconomyResponse Object
+     * @see Economy#deleteBank(String)
+     */
+    CompletableFuture<EconomyResponse> deleteBankAsync(String name);
+
+    /**
+     * Asynchronously returns the amount the bank has
+     *
+     * @param name of the account
+     * @return future completing with the EconomyResponse Object
+     * @see Economy#bankBalance(String)
+     */
+    CompletableFuture<EconomyResponse> bankBalanceAsync(String name);
+
+    /**
+     * Asynchronously checks whether the bank has the amount specified - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param name   of the account
+     * @param amount to check for
+     * @return future completing with the EconomyResponse Object
+     * @see Economy#bankHas(String, double)
+     */
+    CompletableFuture<EconomyResponse> bankHasAsync(String name, double amount);
+
+    /**
+     * Asynchronously withdraws an amount from a bank account - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param name   of the account
+     * @param amount to withdraw
+     * @return future completing with the EconomyResponse Object
+     * @see Economy#bankWithdraw(String, double)
+     */
+    CompletableFuture<EconomyResponse> bankWithdrawAsync(String name, double amount);
+
+    /**
+     * Asynchronously deposits an amount into a bank account - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param name   of the account
+     * @param amount to deposit
+     * @return future completing with the EconomyResponse Object
+     * @see Economy#bankDeposit(String, double)
+     */
+    CompletableFuture<EconomyResponse> bankDepositAsync(String name, double amount);
+
+    /**
+     * Asynchronously checks if a player is the owner of a bank account
+     *
+     * @param name   of the account
+     * @param player to check for ownership
+     * @return future completing with the EconomyResponse Object
+     * @see Economy#isBankOwner(String, OfflinePlayer)
+     */
+    CompletableFuture<EconomyResponse> isBankOwnerAsync(String name, OfflinePlayer player);
+
+    /**
+     * Asynchronously checks if the player is a member of the bank account
+     *
+     * @param name   of the account
+     * @param player to check membership
+     * @return future completing with the EconomyResponse Object
+     * @see Economy#isBankMember(String, OfflinePlayer)
+     */
+    CompletableFuture<EconomyResponse> isBankMemberAsync(String name, OfflinePlayer player);
+
+    /**
+     * Asynchronously gets the banks the player owns or is a member of
+     *
+     * @param player to get the banks of
+     * @return future completing with the names of the banks
+     * @see Economy#banksOf(OfflinePlayer)
+     */
+    CompletableFuture<Set<String>> banksOfAsync(OfflinePlayer player);
+
+    /**
+     * Asynchronously gets the members of the bank account
+     *
+     * @param name of the account
+     * @return future completing with the unique ids of the members
+     * @see Economy#membersOf(String)
+     */
+    CompletableFuture<Set<UUID>> membersOfAsync(String name);
+
+    /**
+     * Asynchronously gets the list of banks
+     *
+     * @return future completing with the List of Banks
+     * @see Economy#getBanks()
+     */
+    CompletableFuture<List<String>> getBanksAsync();
+
+    /**
+     * Asynchronously gets a page of bank names in ascending order, optionally filtered by a prefix
+     *
+     * @param prefix the prefix bank names must start with or {@code null} for all banks
+     * @param after  the name all returned names are ordered after or {@code null} for the first page
+     * @param limit  the maximum number of names to return
+     * @return future completing with the bank names
+     * @see Economy#getBanks(String, String, int)
+     */
+    CompletableFuture<List<String>> getBanksAsync(@Nullable String prefix, @Nullable String after, int limit);
+
+    /**
+     * Asynchronously gets the balances of the given banks
+     *
+     * @param names of the banks
+     * @return future completing with the balances keyed by bank name
+     * @see Economy#bankBalances(Collection)
+     */
+    CompletableFuture<Map<String, Double>> bankBalancesAsync(Collection<String> names);
+
+    /**
+     * Asynchronously attempts to create a player account for the given player
+     *
+     * @param player OfflinePlayer
+     * @return future completing with whether the account creation was successful
+     * @see Economy#createPlayerAccount(OfflinePlayer)
+     */
+    CompletableFuture<Boolean> createPlayerAccountAsync(OfflinePlayer player);
+
+    /**
+     * Asynchronously attempts to create a player account for the given player on the specified world
+     *
+     * @param player    OfflinePlayer
+     * @param worldName String name of the world
+     * @return future completing with whether the account creation was successful
+     * @see Economy#createPlayerAccount(OfflinePlayer, String)
+     */
+    CompletableFuture<Boolean> createPlayerAccountAsync(OfflinePlayer player, @Nullable String worldName);
+}
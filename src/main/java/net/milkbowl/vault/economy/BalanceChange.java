@@ -0,0 +1,16 @@
+package net.milkbowl.vault.economy;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * The latest balance of a player account whose balance changed.
+ *
+ * @param uniqueId the unique id of the account holder
+ * @param world    the name of the world or {@code null} for the global account
+ * @param balance  the new balance
+ * @see Economy#balanceChanges()
+ */
+public record BalanceChange(UUID uniqueId, @Nullable String world, double balance) {
+}
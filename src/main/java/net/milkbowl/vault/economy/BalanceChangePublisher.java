@@ -0,0 +1,200 @@
+package net.milkbowl.vault.economy;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes balance changes in batches, coalescing the changes of each account.
+ * <p>
+ * The first change after a batch was published schedules the next batch, which is published once the
+ * coalescing window elapsed and only holds the latest balance of every account changed in the meantime.
+ * Changes are discarded right away as long as there are no subscribers, so an unobserved publisher costs
+ * a single check per change.
+ * <p>
+ * Each subscriber keeps its own pending changes and requests batches at its own pace.
+ * While a subscriber has no outstanding demand, its changes keep coalescing per account until it requests
+ * the next batch, so a slow subscriber holds at most one pending balance per account and never delays
+ * or repeats the batches of other subscribers.
+ *
+ * @see Economy#balanceChanges()
+ */
+public final class BalanceChangePublisher implements Flow.Publisher<List<BalanceChange>>, AutoCloseable {
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Executor executor;
+    private final Executor delayed;
+    private volatile boolean closed;
+
+    /**
+     * Constructor for BalanceChangePublisher, coalescing changes for one server tick
+     * and delivering them on the {@link ForkJoinPool#commonPool() common pool}
+     */
+    public BalanceChangePublisher() {
+        this(Duration.ofMillis(50), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for BalanceChangePublisher
+     *
+     * @param window   how long changes are coalesced before a batch is published
+     * @param executor the executor publishing and delivering batches
+     */
+    public BalanceChangePublisher(Duration window, Executor executor) {
+        if (window.isNegative()) throw new IllegalArgumentException("Window must not be negative: " + window);
+        this.executor = executor;
+        this.delayed = CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, executor);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<BalanceChange>> subscriber) {
+        Subscription subscription = new Subscription(Objects.requireNonNull(subscriber, "subscriber"));
+        subscriptions.add(subscription);
+        if (closed) subscription.close();
+        subscription.signal();
+    }
+
+    /**
+     * Checks if any subscriber receives balance changes
+     *
+     * @return true if there is at least one subscriber
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Records the new balance of an account, to be published with the next batch
+     *
+     * @param uniqueId of the player
+     * @param world    name of the world or {@code null} for the global account
+     * @param balance  the new balance
+     */
+    public void changed(UUID uniqueId, @Nullable String world, double balance) {
+        if (subscriptions.isEmpty() || closed) return;
+        AccountKey key = new AccountKey(uniqueId, world);
+        BalanceChange change = new BalanceChange(uniqueId, world, balance);
+        for (Subscription subscription : subscriptions) subscription.pending.put(key, change);
+        if (scheduled.compareAndSet(false, true)) delayed.execute(this::flush);
+    }
+
+    /**
+     * Publishes all pending changes right away instead of waiting for the coalescing window to elapse
+     */
+    public void flush() {
+        scheduled.set(false);
+        for (Subscription subscription : subscriptions) subscription.due();
+    }
+
+    /**
+     * Publishes all pending changes and completes all subscriptions once their changes were delivered
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Subscription subscription : subscriptions) subscription.close();
+    }
+
+    // all signals to the subscriber are sent from drain, which never runs concurrently with itself
+    private final class Subscription implements Flow.Subscription {
+        private final Map<AccountKey, BalanceChange> pending = new ConcurrentHashMap<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger work = new AtomicInteger();
+        private final Flow.Subscriber<? super List<BalanceChange>> subscriber;
+        private volatile @Nullable Throwable failure;
+        private volatile boolean due;
+        private volatile boolean completing;
+        private volatile boolean cancelled;
+        private boolean subscribed;
+
+        private Subscription(Flow.Subscriber<? super List<BalanceChange>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) failure = new IllegalArgumentException("Requested non-positive number of batches: " + n);
+            else demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            pending.clear();
+        }
+
+        private void due() {
+            if (pending.isEmpty()) return;
+            due = true;
+            signal();
+        }
+
+        private void close() {
+            completing = true;
+            due = true;
+            signal();
+        }
+
+        private void signal() {
+            if (work.getAndIncrement() == 0) executor.execute(this::drain);
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!subscribed) {
+                    subscribed = true;
+                    subscriber.onSubscribe(this);
+                }
+                Throwable failure = this.failure;
+                if (cancelled) {
+                    pending.clear();
+                } else if (failure != null) {
+                    cancel();
+                    subscriber.onError(failure);
+                } else {
+                    if (due && demand.get() > 0 && !pending.isEmpty()) publish();
+                    if (completing && pending.isEmpty() && !cancelled) {
+                        cancel();
+                        subscriber.onComplete();
+                    }
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void publish() {
+            due = false;
+            List<BalanceChange> batch = new ArrayList<>(pending.size());
+            pending.forEach((key, change) -> {
+                if (pending.remove(key, change)) batch.add(change);
+            });
+            if (batch.isEmpty()) return;
+            demand.decrementAndGet();
+            try {
+                subscriber.onNext(Collections.unmodifiableList(batch));
+            } catch (RuntimeException e) {
+                cancel();
+                subscriber.onError(e);
+            }
+        }
+    }
+}
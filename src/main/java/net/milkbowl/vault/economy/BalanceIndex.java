@@ -0,0 +1,257 @@
+package net.milkbowl.vault.economy;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An incrementally maintained ranking of account balances, kept per world.
+ * <p>
+ * Balances are stored in an order-statistic tree sorted by balance in descending order,
+ * ties are broken by unique id. Updating a balance and looking up the rank of an account take
+ * {@code O(log n)} expected time, the top {@code k} accounts are listed in {@code O(log n + k)}.
+ * <p>
+ * The index does not observe any economy by itself, providers have to {@link #update(UUID, String, double) update}
+ * it whenever a balance changes and should seed it with all known accounts on startup.
+ *
+ * @see AbstractEconomy#enableBalanceIndex()
+ */
+public final class BalanceIndex {
+    private static final Object GLOBAL = new Object();
+
+    private final Map<Object, Ranking> rankings = new ConcurrentHashMap<>();
+
+    /**
+     * Sets the balance of an account, inserting the account if it is not yet indexed
+     *
+     * @param uniqueId of the account holder
+     * @param world    name of the world or {@code null} for the global account
+     * @param balance  the new balance
+     */
+    public void update(UUID uniqueId, @Nullable String world, double balance) {
+        rankings.computeIfAbsent(key(world), ignored -> new Ranking()).update(uniqueId, balance);
+    }
+
+    /**
+     * Removes an account from the index
+     *
+     * @param uniqueId of the account holder
+     * @param world    name of the world or {@code null} for the global account
+     */
+    public void remove(UUID uniqueId, @Nullable String world) {
+        Ranking ranking = rankings.get(key(world));
+        if (ranking != null) ranking.remove(uniqueId);
+    }
+
+    /**
+     * Gets the accounts with the highest balances, highest first
+     *
+     * @param limit the maximum number of accounts to return
+     * @param world name of the world or {@code null} for the global accounts
+     * @return the top balances
+     */
+    public Balances top(int limit, @Nullable String world) {
+        if (limit < 0) throw new IllegalArgumentException("Limit must not be negative: " + limit);
+        Ranking ranking = rankings.get(key(world));
+        return ranking != null ? ranking.top(limit) : Balances.empty();
+    }
+
+    /**
+     * Gets the rank of an account, the account with the highest balance being ranked first
+     *
+     * @param uniqueId of the account holder
+     * @param world    name of the world or {@code null} for the global account
+     * @return the 1-based rank or {@code -1} if the account is not indexed
+     */
+    public int rankOf(UUID uniqueId, @Nullable String world) {
+        Ranking ranking = rankings.get(key(world));
+        return ranking != null ? ranking.rankOf(uniqueId) : -1;
+    }
+
+    /**
+     * Gets the number of indexed accounts
+     *
+     * @param world name of the world or {@code null} for the global accounts
+     * @return the number of accounts
+     */
+    public int size(@Nullable String world) {
+        Ranking ranking = rankings.get(key(world));
+        return ranking != null ? ranking.size() : 0;
+    }
+
+    /**
+     * Removes all accounts from the index
+     */
+    public void clear() {
+        rankings.clear();
+    }
+
+    private static Object key(@Nullable String world) {
+        return Objects.requireNonNullElse(world, GLOBAL);
+    }
+
+    private static final class Ranking {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<UUID, Double> balances = new HashMap<>();
+        private @Nullable Node root;
+
+        private void update(UUID uniqueId, double balance) {
+            lock.writeLock().lock();
+            try {
+                Double previous = balances.put(uniqueId, balance);
+                if (previous != null) {
+                    if (previous == balance) return;
+                    root = delete(root, previous, uniqueId);
+                }
+                Node node = new Node(balance, uniqueId, ThreadLocalRandom.current().nextInt());
+                Node[] parts = split(root, balance, uniqueId);
+                root = merge(merge(parts[0], node), parts[1]);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void remove(UUID uniqueId) {
+            lock.writeLock().lock();
+            try {
+                Double previous = balances.remove(uniqueId);
+                if (previous != null) root = delete(root, previous, uniqueId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private Balances top(int limit) {
+            lock.readLock().lock();
+            try {
+                Balances.Builder builder = Balances.builder(Math.min(limit, size(root)));
+                ArrayDeque<Node> stack = new ArrayDeque<>();
+                Node node = root;
+                int count = 0;
+                while (count < limit && (node != null || !stack.isEmpty())) {
+                    while (node != null) {
+                        stack.push(node);
+                        node = node.left;
+                    }
+                    node = stack.pop();
+                    builder.add(node.uniqueId, node.balance);
+                    count++;
+                    node = node.right;
+                }
+                return builder.build();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private int rankOf(UUID uniqueId) {
+            lock.readLock().lock();
+            try {
+                Double balance = balances.get(uniqueId);
+                if (balance == null) return -1;
+                int rank = 0;
+                Node node = root;
+                while (node != null) {
+                    int comparison = compare(balance, uniqueId, node);
+                    if (comparison == 0) return rank + size(node.left) + 1;
+                    if (comparison < 0) node = node.left;
+                    else {
+                        rank += size(node.left) + 1;
+                        node = node.right;
+                    }
+                }
+                return -1;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private int size() {
+            lock.readLock().lock();
+            try {
+                return balances.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // orders by balance descending, then by unique id
+        private static int compare(double balance, UUID uniqueId, Node node) {
+            int comparison = Double.compare(node.balance, balance);
+            return comparison != 0 ? comparison : uniqueId.compareTo(node.uniqueId);
+        }
+
+        private static int size(@Nullable Node node) {
+            return node != null ? node.size : 0;
+        }
+
+        // splits into nodes ordered before the key and nodes ordered at or after it
+        private static @Nullable Node[] split(@Nullable Node node, double balance, UUID uniqueId) {
+            if (node == null) return new Node[2];
+            if (compare(balance, uniqueId, node) > 0) {
+                Node[] parts = split(node.right, balance, uniqueId);
+                node.right = parts[0];
+                node.update();
+                parts[0] = node;
+                return parts;
+            } else {
+                Node[] parts = split(node.left, balance, uniqueId);
+                node.left = parts[1];
+                node.update();
+                parts[1] = node;
+                return parts;
+            }
+        }
+
+        private static @Nullable Node merge(@Nullable Node left, @Nullable Node right) {
+            if (left == null) return right;
+            if (right == null) return left;
+            if (left.priority > right.priority) {
+                left.right = merge(left.right, right);
+                left.update();
+                return left;
+            } else {
+                right.left = merge(left, right.left);
+                right.update();
+                return right;
+            }
+        }
+
+        private static @Nullable Node delete(@Nullable Node node, double balance, UUID uniqueId) {
+            if (node == null) return null;
+            int comparison = compare(balance, uniqueId, node);
+            if (comparison == 0) return merge(node.left, node.right);
+            if (comparison < 0) node.left = delete(node.left, balance, uniqueId);
+            else node.right = delete(node.right, balance, uniqueId);
+            node.update();
+            return node;
+        }
+    }
+
+    private static final class Node {
+        private final double balance;
+        private final UUID uniqueId;
+        private final int priority;
+        private @Nullable Node left;
+        private @Nullable Node right;
+        private int size = 1;
+
+        private Node(double balance, UUID uniqueId, int priority) {
+            this.balance = balance;
+            this.uniqueId = uniqueId;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + Ranking.size(left) + Ranking.size(right);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package net.milkbowl.vault.economy;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * A compact binary file holding the balances of all player accounts of an economy.
+ * <p>
+ * Balances are stored as fixed-point {@link MinorUnits minor units} together with the unique id of the
+ * account holder and the id of the world the account belongs to. The number of fractional digits is stored
+ * in the header, balances of economies not rounding amounts ({@code -1} digits) are stored as raw doubles.
+ * The file is laid out in columns, so it is written and read with a few bulk transfers instead of one operation per account.
+ * Files are written to a temporary file first and then moved into place, so an interrupted write
+ * never replaces an intact snapshot.
+ *
+ * @see AbstractEconomy#snapshot(Path)
+ * @see AbstractEconomy#restore(Path)
+ */
+public final class BalanceSnapshot {
+    private static final int MAGIC = 0x5642_534E; // VBSN
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 24;
+    private static final int GLOBAL = 0;
+
+    private BalanceSnapshot() {
+    }
+
+    /**
+     * Receives the balances of a snapshot
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * Receives the balance of an account
+         *
+         * @param uniqueId of the account holder
+         * @param world    name of the world or {@code null} for the global account
+         * @param balance  the balance of the account
+         */
+        void visit(UUID uniqueId, @Nullable String world, double balance);
+    }
+
+    /**
+     * Writes a snapshot of the balances passed to the visitor by the given source
+     *
+     * @param file             the file to write
+     * @param fractionalDigits the number of fractional digits of the balances or {@code -1} if they are not rounded
+     * @param source           passing all balances to the given visitor
+     * @return the number of written balances
+     * @throws IOException         if the file could not be written
+     * @throws ArithmeticException if a balance does not fit into a {@code long} of minor units
+     */
+    public static int write(Path file, int fractionalDigits, Consumer<Visitor> source) throws IOException {
+        Columns columns = new Columns(fractionalDigits);
+        source.accept(columns);
+
+        int count = columns.size;
+        byte[][] worlds = new byte[columns.worlds.size()][];
+        for (int i = 0; i < worlds.length; i++) worlds[i] = columns.worlds.get(i).getBytes(StandardCharsets.UTF_8);
+        int tableSize = 0;
+        for (byte[] world : worlds) tableSize += Short.BYTES + world.length;
+
+        ByteBuffer table = ByteBuffer.allocate(tableSize);
+        for (byte[] world : worlds) table.putShort((short) world.length).put(world);
+        ByteBuffer data = ByteBuffer.allocate(Math.multiplyExact(count, 3 * Long.BYTES + Integer.BYTES));
+        for (int i = 0; i < count; i++) data.putLong(columns.mostSignificantBits[i]);
+        for (int i = 0; i < count; i++) data.putLong(columns.leastSignificantBits[i]);
+        for (int i = 0; i < count; i++) data.putInt(columns.worldIds[i]);
+        for (int i = 0; i < count; i++) data.putLong(columns.balances[i]);
+        table.flip();
+        data.flip();
+
+        CRC32C checksum = new CRC32C();
+        checksum.update(table.duplicate());
+        checksum.update(data.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).putInt(fractionalDigits)
+                .putInt(worlds.length).putInt(count).putInt((int) checksum.getValue()).flip();
+
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) Files.createDirectories(directory);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer[] buffers = {header, table, data};
+            while (header.hasRemaining() || table.hasRemaining() || data.hasRemaining()) channel.write(buffers);
+            channel.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+
+    /**
+     * Reads a snapshot, passing every balance to the given visitor
+     *
+     * @param file    the file to read
+     * @param visitor receiving the balances
+     * @return the number of read balances
+     * @throws IOException if the file could not be read or is not an intact snapshot
+     */
+    public static int read(Path file, Visitor visitor) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) throw new IOException("Invalid snapshot size: " + size);
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) if (channel.read(buffer) < 0) throw new IOException("Unexpected end of snapshot");
+            buffer.flip();
+        }
+        if (buffer.getInt() != MAGIC) throw new IOException("Not a balance snapshot: " + file);
+        int version = buffer.getInt();
+        if (version != VERSION && version != 1) throw new IOException("Unsupported snapshot version: " + version);
+        int digits = buffer.getInt();
+        // version 1 stored balances of economies not rounding amounts truncated to whole units
+        if (version == 1 && digits < 0) throw new IOException("Unsupported snapshot of unrounded balances: " + file);
+        int worldCount = buffer.getInt();
+        int count = buffer.getInt();
+        int expected = buffer.getInt();
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.duplicate());
+        if ((int) checksum.getValue() != expected) throw new IOException("Corrupted balance snapshot: " + file);
+
+        String[] worlds = new String[worldCount + 1];
+        for (int i = 1; i <= worldCount; i++) {
+            byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(bytes);
+            worlds[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (buffer.remaining() != (long) count * (3 * Long.BYTES + Integer.BYTES))
+            throw new IOException("Corrupted balance snapshot: " + file);
+        int mostSignificantBits = buffer.position();
+        int leastSignificantBits = mostSignificantBits + count * Long.BYTES;
+        int worldIds = leastSignificantBits + count * Long.BYTES;
+        int balances = worldIds + count * Integer.BYTES;
+        for (int i = 0; i < count; i++) {
+            UUID uniqueId = new UUID(buffer.getLong(mostSignificantBits + i * Long.BYTES),
+                    buffer.getLong(leastSignificantBits + i * Long.BYTES));
+            int world = buffer.getInt(worldIds + i * Integer.BYTES);
+            if (world < 0 || world > worldCount) throw new IOException("Corrupted balance snapshot: " + file);
+            long balance = buffer.getLong(balances + i * Long.BYTES);
+            visitor.visit(uniqueId, worlds[world], digits < 0 ? Double.longBitsToDouble(balance) : MinorUnits.toMajor(balance, digits));
+        }
+        return count;
+    }
+
+    private static final class Columns implements Visitor {
+        private final Map<String, Integer> worldIndex = new HashMap<>();
+        private final List<String> worlds = new ArrayList<>();
+        private final int fractionalDigits;
+        private long[] mostSignificantBits = new long[16];
+        private long[] leastSignificantBits = new long[16];
+        private int[] worldIds = new int[16];
+        private long[] balances = new long[16];
+        private int size;
+
+        private Columns(int fractionalDigits) {
+            this.fractionalDigits = fractionalDigits;
+        }
+
+        @Override
+        public void visit(UUID uniqueId, @Nullable String world, double balance) {
+            if (size == balances.length) {
+                int capacity = size * 2;
+                mostSignificantBits = Arrays.copyOf(mostSignificantBits, capacity);
+                leastSignificantBits = Arrays.copyOf(leastSignificantBits, capacity);
+                worldIds = Arrays.copyOf(worldIds, capacity);
+                balances = Arrays.copyOf(balances, capacity);
+            }
+            mostSignificantBits[size] = uniqueId.getMostSignificantBits();
+            leastSignificantBits[size] = uniqueId.getLeastSignificantBits();
+            worldIds[size] = world == null ? GLOBAL : worldIndex.computeIfAbsent(world, name -> {
+                if (name.getBytes(StandardCharsets.UTF_8).length > 0xFFFF)
+                    throw new IllegalArgumentException("World name too long: " + name);
+                worlds.add(name);
+                return worlds.size();
+            });
+            balances[size] = fractionalDigits < 0 ? Double.doubleToLongBits(balance) : MinorUnits.toMinor(balance, fractionalDigits);
+            size++;
+        }
+    }
+}
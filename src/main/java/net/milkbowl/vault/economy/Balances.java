@@ -0,0 +1,174 @@
+package net.milkbowl.vault.economy;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An immutable list of account balances, stored as parallel arrays of unique ids and primitive balances.
+ * <p>
+ * The entry at index {@code i} describes the account {@link #getUniqueId(int) getUniqueId(i)}
+ * holding {@link #getBalance(int) getBalance(i)}.
+ *
+ * @see Economy#getBalances(java.util.Collection, String)
+ */
+public final class Balances {
+    private static final Balances EMPTY = new Balances(new UUID[0], new double[0]);
+
+    private final UUID[] uniqueIds;
+    private final double[] balances;
+
+    private Balances(UUID[] uniqueIds, double[] balances) {
+        this.uniqueIds = uniqueIds;
+        this.balances = balances;
+    }
+
+    /**
+     * Creates a new Balances object from the given parallel arrays.
+     * The arrays are copied, later modifications do not affect the returned object.
+     *
+     * @param uniqueIds the account ids
+     * @param balances  the balances, index-aligned with {@code uniqueIds}
+     * @return the balances
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static Balances of(UUID[] uniqueIds, double[] balances) {
+        if (uniqueIds.length != balances.length) throw new IllegalArgumentException(
+                "Length mismatch: " + uniqueIds.length + " ids but " + balances.length + " balances");
+        if (uniqueIds.length == 0) return EMPTY;
+        return new Balances(uniqueIds.clone(), balances.clone());
+    }
+
+    /**
+     * Returns an empty Balances object.
+     *
+     * @return the empty balances
+     */
+    public static Balances empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a new builder with the given expected size.
+     *
+     * @param expectedSize the number of entries expected to be added
+     * @return the builder
+     */
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * Gets the number of accounts
+     *
+     * @return the number of accounts
+     */
+    public int size() {
+        return uniqueIds.length;
+    }
+
+    /**
+     * Gets the unique id of the account at the given index
+     *
+     * @param index of the entry
+     * @return the unique id
+     */
+    public UUID getUniqueId(int index) {
+        return uniqueIds[index];
+    }
+
+    /**
+     * Gets the balance of the account at the given index
+     *
+     * @param index of the entry
+     * @return the balance
+     */
+    public double getBalance(int index) {
+        return balances[index];
+    }
+
+    /**
+     * Gets the balance of the given account.
+     * This is a linear search, use {@link #toMap()} for repeated lookups.
+     *
+     * @param uniqueId     of the account
+     * @param defaultValue returned if the account is not contained
+     * @return the balance or {@code defaultValue}
+     */
+    public double getBalance(UUID uniqueId, double defaultValue) {
+        for (int i = 0; i < uniqueIds.length; i++) {
+            if (uniqueIds[i].equals(uniqueId)) return balances[i];
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Copies the balances into a map, preserving their order.
+     *
+     * @return a new map of unique ids to balances
+     */
+    public Map<UUID, Double> toMap() {
+        Map<UUID, Double> map = new LinkedHashMap<>((int) (uniqueIds.length / 0.75f) + 1);
+        for (int i = 0; i < uniqueIds.length; i++) map.put(uniqueIds[i], balances[i]);
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Balances other)) return false;
+        return Arrays.equals(uniqueIds, other.uniqueIds) && Arrays.equals(balances, other.balances);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(uniqueIds) + Arrays.hashCode(balances);
+    }
+
+    @Override
+    public String toString() {
+        return "Balances{size=" + uniqueIds.length + "}";
+    }
+
+    /**
+     * Builder collecting balances without intermediate boxing.
+     */
+    public static final class Builder {
+        private UUID[] uniqueIds;
+        private double[] balances;
+        private int size;
+
+        private Builder(int expectedSize) {
+            this.uniqueIds = new UUID[Math.max(expectedSize, 4)];
+            this.balances = new double[uniqueIds.length];
+        }
+
+        /**
+         * Adds an account balance
+         *
+         * @param uniqueId of the account
+         * @param balance  of the account
+         * @return this builder
+         */
+        public Builder add(UUID uniqueId, double balance) {
+            if (size == uniqueIds.length) {
+                uniqueIds = Arrays.copyOf(uniqueIds, size * 2);
+                balances = Arrays.copyOf(balances, size * 2);
+            }
+            uniqueIds[size] = uniqueId;
+            balances[size++] = balance;
+            return this;
+        }
+
+        /**
+         * Builds the balances
+         *
+         * @return the balances
+         */
+        public Balances build() {
+            if (size == 0) return EMPTY;
+            return new Balances(Arrays.copyOf(uniqueIds, size), Arrays.copyOf(balances, size));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package net.milkbowl.vault.economy;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bank ownership and membership, indexed in both directions.
+ * <p>
+ * Besides the owner and members of every bank, the index keeps the banks of every player,
+ * so checking ownership or membership takes constant time and listing the members of a bank
+ * or the banks of a player takes time proportional to the result.
+ * The owner of a bank counts as one of its members.
+ * <p>
+ * Lookups never block, modifications are serialized.
+ *
+ * @see Economy#banksOf(org.bukkit.OfflinePlayer)
+ * @see Economy#membersOf(String)
+ */
+public final class BankMembershipIndex {
+    private final Map<String, Entry> banks = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> players = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a bank with the given owner
+     *
+     * @param name  of the bank
+     * @param owner of the bank
+     * @return true if the bank was added, false if it already exists
+     */
+    public synchronized boolean addBank(String name, UUID owner) {
+        if (banks.containsKey(name)) return false;
+        Entry entry = new Entry(owner);
+        entry.members.add(owner);
+        banks.put(name, entry);
+        index(owner).add(name);
+        return true;
+    }
+
+    /**
+     * Removes a bank and all its memberships
+     *
+     * @param name of the bank
+     * @return true if the bank was removed, false if it does not exist
+     */
+    public synchronized boolean removeBank(String name) {
+        Entry entry = banks.remove(name);
+        if (entry == null) return false;
+        for (UUID member : entry.members) unindex(member, name);
+        return true;
+    }
+
+    /**
+     * Adds a member to a bank
+     *
+     * @param name     of the bank
+     * @param uniqueId of the player to add
+     * @return true if the player was added, false if the bank does not exist or the player already is a member
+     */
+    public synchronized boolean addMember(String name, UUID uniqueId) {
+        Entry entry = banks.get(name);
+        if (entry == null || !entry.members.add(uniqueId)) return false;
+        index(uniqueId).add(name);
+        return true;
+    }
+
+    /**
+     * Removes a member from a bank, the owner cannot be removed
+     *
+     * @param name     of the bank
+     * @param uniqueId of the player to remove
+     * @return true if the player was removed, false if the bank does not exist or the player is no removable member
+     */
+    public synchronized boolean removeMember(String name, UUID uniqueId) {
+        Entry entry = banks.get(name);
+        if (entry == null || entry.owner.equals(uniqueId) || !entry.members.remove(uniqueId)) return false;
+        unindex(uniqueId, name);
+        return true;
+    }
+
+    /**
+     * Gets the owner of a bank
+     *
+     * @param name of the bank
+     * @return the unique id of the owner or {@code null} if the bank does not exist
+     */
+    public @Nullable UUID getOwner(String name) {
+        Entry entry = banks.get(name);
+        return entry != null ? entry.owner : null;
+    }
+
+    /**
+     * Checks if the player owns the bank
+     *
+     * @param name     of the bank
+     * @param uniqueId of the player
+     * @return true if the bank exists and is owned by the player
+     */
+    public boolean isOwner(String name, UUID uniqueId) {
+        Entry entry = banks.get(name);
+        return entry != null && entry.owner.equals(uniqueId);
+    }
+
+    /**
+     * Checks if the player is a member or the owner of the bank
+     *
+     * @param name     of the bank
+     * @param uniqueId of the player
+     * @return true if the bank exists and the player is one of its members
+     */
+    public boolean isMember(String name, UUID uniqueId) {
+        Entry entry = banks.get(name);
+        return entry != null && entry.members.contains(uniqueId);
+    }
+
+    /**
+     * Gets the banks the player owns or is a member of
+     *
+     * @param uniqueId of the player
+     * @return an unmodifiable view of the bank names
+     */
+    public Set<String> banksOf(UUID uniqueId) {
+        Set<String> names = players.get(uniqueId);
+        return names != null ? Collections.unmodifiableSet(names) : Set.of();
+    }
+
+    /**
+     * Gets the members of a bank, including its owner
+     *
+     * @param name of the bank
+     * @return an unmodifiable view of the unique ids of the members, empty if the bank does not exist
+     */
+    public Set<UUID> membersOf(String name) {
+        Entry entry = banks.get(name);
+        return entry != null ? Collections.unmodifiableSet(entry.members) : Set.of();
+    }
+
+    private Set<String> index(UUID uniqueId) {
+        return players.computeIfAbsent(uniqueId, ignored -> ConcurrentHashMap.newKeySet());
+    }
+
+    private void unindex(UUID uniqueId, String name) {
+        Set<String> names = players.get(uniqueId);
+        if (names != null && names.remove(name) && names.isEmpty()) players.remove(uniqueId);
+    }
+
+    private static final class Entry {
+        private final Set<UUID> members = ConcurrentHashMap.newKeySet();
+        private final UUID owner;
+
+        private Entry(UUID owner) {
+            this.owner = owner;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package net.milkbowl.vault.economy;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A handle to an update of many accounts running in the background, reporting its progress
+ * and allowing it to be cancelled.
+ * <p>
+ * Providers advance the handle through {@link #processed(long, long)} while running the update
+ * and finish it through {@link #complete()} or {@link #fail(Throwable)}.
+ * Cancelling stops the update at the next account, accounts already updated keep their new balance.
+ * <p>
+ * Providers updating one account at a time can use {@link #start(Supplier, Executor, Predicate)},
+ * which splits the accounts into parts processed in parallel on an executor of their choice.
+ *
+ * @see Economy#applyToAll(java.util.function.DoubleUnaryOperator, String)
+ */
+public final class BulkOperation {
+    private final CompletableFuture<Long> completion = new CompletableFuture<>();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder changed = new LongAdder();
+    private volatile long total = -1;
+
+    /**
+     * Gets the number of accounts to process
+     *
+     * @return the total number of accounts or {@code -1} if unknown
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Sets the number of accounts to process, once known
+     *
+     * @param total the total number of accounts or {@code -1} if unknown
+     */
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    /**
+     * Gets the number of accounts processed so far
+     *
+     * @return the number of processed accounts
+     */
+    public long getProcessed() {
+        return processed.sum();
+    }
+
+    /**
+     * Gets the number of accounts whose balance was changed so far
+     *
+     * @return the number of changed accounts
+     */
+    public long getChanged() {
+        return changed.sum();
+    }
+
+    /**
+     * Gets the share of accounts processed so far
+     *
+     * @return the progress between {@code 0} and {@code 1}, or {@code -1} if the total is unknown and still running
+     */
+    public double getProgress() {
+        if (completion.isDone()) return 1;
+        long total = this.total;
+        if (total < 0) return -1;
+        return total == 0 ? 1 : Math.min(1, (double) processed.sum() / total);
+    }
+
+    /**
+     * Gets a future completing with the number of changed accounts once all accounts are processed,
+     * or exceptionally if the update failed or was {@link #cancel() cancelled}
+     *
+     * @return the completion of the update
+     */
+    public CompletableFuture<Long> completion() {
+        return completion;
+    }
+
+    /**
+     * Stops the update at the next account
+     *
+     * @return true if the update was cancelled, false if it had already finished
+     */
+    public boolean cancel() {
+        return completion.cancel(false);
+    }
+
+    /**
+     * Checks if the update was cancelled, providers should stop processing accounts once it was
+     *
+     * @return true if the update was cancelled
+     */
+    public boolean isCancelled() {
+        return completion.isCancelled();
+    }
+
+    /**
+     * Reports processed accounts
+     *
+     * @param accounts the number of newly processed accounts
+     * @param changed  how many of them had their balance changed
+     */
+    public void processed(long accounts, long changed) {
+        processed.add(accounts);
+        this.changed.add(changed);
+    }
+
+    /**
+     * Finishes the update successfully, unless it was cancelled
+     */
+    public void complete() {
+        completion.complete(changed.sum());
+    }
+
+    /**
+     * Finishes the update with an error, unless it was cancelled
+     *
+     * @param error the cause of the failure
+     */
+    public void fail(Throwable error) {
+        completion.completeExceptionally(error);
+    }
+
+    /**
+     * Applies a function to the balance of every player account of an economy in the background,
+     * depositing or withdrawing the difference to the new balance through its {@link OfflinePlayer} methods.
+     * Accounts for which the function returns a negative or non-finite balance are left unchanged.
+     * <p>
+     * Players are resolved through {@link Bukkit#getOfflinePlayer(UUID)}, which never performs a lookup
+     * for unique ids, so this is safe to run off the main thread.
+     *
+     * @param economy  the economy to update the accounts of
+     * @param function computes the new balance from the current balance
+     * @param world    name of the world or {@code null} for the global accounts
+     * @param executor the executor the accounts are updated on
+     * @return a handle reporting the progress of the update,
+     * failed right away if the economy cannot {@link Economy#accounts(String) enumerate} its accounts
+     */
+    public static BulkOperation applyToAll(Economy economy, DoubleUnaryOperator function,
+                                           @Nullable String world, Executor executor) {
+        return start(() -> economy.accounts(world), executor, uniqueId -> {
+            OfflinePlayer player = Bukkit.getOfflinePlayer(uniqueId);
+            double balance = economy.getBalance(player, world);
+            double updated = function.applyAsDouble(balance);
+            if (!Double.isFinite(updated) || updated < 0 || updated == balance) return false;
+            return (updated > balance
+                    ? economy.depositPlayer(player, world, updated - balance)
+                    : economy.withdrawPlayer(player, world, balance - updated)).transactionSuccess();
+        });
+    }
+
+    /**
+     * Starts an update of many accounts in the background.
+     * <p>
+     * The accounts are enumerated on the calling thread and split into up to one part per available processor,
+     * each part being updated on the given executor. The update stops at the next account once cancelled,
+     * and fails if updating an account throws an exception.
+     *
+     * @param accounts enumerates the unique ids of the accounts to update
+     * @param executor the executor the accounts are updated on
+     * @param update   updates a single account and returns whether its balance was changed
+     * @return a handle reporting the progress of the update,
+     * failed right away if the accounts cannot be enumerated
+     */
+    public static BulkOperation start(Supplier<Spliterator<UUID>> accounts, Executor executor, Predicate<UUID> update) {
+        BulkOperation operation = new BulkOperation();
+        Spliterator<UUID> spliterator;
+        try {
+            spliterator = accounts.get();
+        } catch (UnsupportedOperationException e) {
+            operation.fail(e);
+            return operation;
+        }
+        operation.setTotal(spliterator.getExactSizeIfKnown());
+        List<Spliterator<UUID>> parts = split(spliterator, Runtime.getRuntime().availableProcessors());
+        Consumer<UUID> action = uniqueId -> operation.processed(1, update.test(uniqueId) ? 1 : 0);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[parts.size()];
+        for (int i = 0; i < futures.length; i++) {
+            Spliterator<UUID> part = parts.get(i);
+            // stops at the next account once the update was cancelled or another part failed
+            futures[i] = CompletableFuture.runAsync(() -> {
+                while (!operation.completion.isDone()) {
+                    if (!part.tryAdvance(action)) break;
+                }
+            }, executor).whenComplete((ignored, error) -> {
+                if (error != null) operation.fail(error instanceof CompletionException ? error.getCause() : error);
+            });
+        }
+        CompletableFuture.allOf(futures).thenRun(operation::complete);
+        return operation;
+    }
+
+    private static List<Spliterator<UUID>> split(Spliterator<UUID> spliterator, int parallelism) {
+        List<Spliterator<UUID>> parts = new ArrayList<>(parallelism);
+        parts.add(spliterator);
+        // halves every part per round, keeping the parts about the same size
+        for (boolean split = true; split && parts.size() < parallelism; ) {
+            split = false;
+            for (int i = 0, size = parts.size(); i < size && parts.size() < parallelism; i++) {
+                Spliterator<UUID> prefix = parts.get(i).trySplit();
+                if (prefix == null) continue;
+                parts.add(prefix);
+                split = true;
+            }
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,376 @@
+package net.milkbowl.vault.economy;
+
+import net.milkbowl.vault.WorldContext;
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * An {@link Economy} decorator serving balance reads from a bounded, concurrent read-through cache.
+ * <p>
+ * Balances are cached per player and world. Entries are updated in place from the
+ * {@link EconomyResponse#balance balance} of successful withdrawals and deposits made through this economy,
+ * and expire after a fixed time to pick up changes made elsewhere.
+ * {@link #has(OfflinePlayer, String, double)} is answered from the cached balance.
+ * <p>
+ * Changes made through the deprecated name-based methods or directly on the backing economy
+ * are only visible once the affected entries expire or are {@link #invalidate(UUID, String) invalidated}.
+ * <p>
+ * Once the maximum size is exceeded, expired entries and then arbitrary entries are evicted in batches
+ * of a sixteenth of the maximum size, so the cost of eviction is spread over many inserts.
+ * The cache may briefly hold more entries than its maximum size while another thread is evicting.
+ * <p>
+ * This economy does not implement {@link AsyncEconomy}, asynchronous calls on the backing economy
+ * would neither be served from nor update the cache.
+ */
+public class CachingEconomy extends ForwardingEconomy {
+    private final Map<AccountKey, Entry> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final long expireAfterNanos;
+    private final int maximumSize;
+    private final int evictionBatch;
+
+    /**
+     * Constructor for CachingEconomy
+     *
+     * @param delegate    the economy to cache balances of
+     * @param expireAfter how long a balance is served from the cache
+     * @param maximumSize the maximum number of cached balances
+     */
+    public CachingEconomy(Economy delegate, Duration expireAfter, int maximumSize) {
+        super(delegate);
+        if (expireAfter.isNegative() || expireAfter.isZero())
+            throw new IllegalArgumentException("Expiry must be positive: " + expireAfter);
+        if (maximumSize <= 0) throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        this.expireAfterNanos = expireAfter.toNanos();
+        this.maximumSize = maximumSize;
+        this.evictionBatch = Math.max(1, maximumSize / 16);
+    }
+
+    /**
+     * Gets the number of balance lookups served from the cache
+     *
+     * @return the number of cache hits
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of balance lookups that had to be forwarded to the backing economy
+     *
+     * @return the number of cache misses
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of entries removed from the cache because it reached its maximum size
+     *
+     * @return the number of evictions
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the number of currently cached balances, including expired ones not yet removed
+     *
+     * @return the number of cached balances
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Discards the cached balance of the given account
+     *
+     * @param uniqueId of the account holder
+     * @param world    name of the world
+     */
+    public void invalidate(UUID uniqueId, @Nullable String world) {
+        cache.remove(new AccountKey(uniqueId, world));
+    }
+
+    /**
+     * Caches the balance of the given account, e.g. when it is known from a change made elsewhere
+     *
+     * @param uniqueId of the account holder
+     * @param world    name of the world
+     * @param balance  the current balance
+     */
+    public void put(UUID uniqueId, @Nullable String world, double balance) {
+        put(new AccountKey(uniqueId, world), balance);
+    }
+
+    /**
+     * Discards all cached balances
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    @Override
+    public double getBalance(OfflinePlayer player) {
+        return balance(player, null);
+    }
+
+    @Override
+    public double getBalance(OfflinePlayer player, @Nullable String world) {
+        return balance(player, world);
+    }
+
+    @Override
+    public double getBalance(WorldContext world, OfflinePlayer player) {
+        return balance(player, world.getName());
+    }
+
+    @Override
+    public Balances getBalances(Collection<? extends OfflinePlayer> players, @Nullable String world) {
+        long now = System.nanoTime();
+        List<OfflinePlayer> missing = new ArrayList<>();
+        Entry[] cached = new Entry[players.size()];
+        int index = 0;
+        for (OfflinePlayer player : players) {
+            Entry entry = cache.get(new AccountKey(player.getUniqueId(), world));
+            if (entry != null && entry.isValid(now)) cached[index] = entry;
+            else missing.add(player);
+            index++;
+        }
+        hits.add(players.size() - missing.size());
+        if (missing.isEmpty()) return merge(players, cached, Balances.empty(), Map.of());
+        misses.add(missing.size());
+
+        Balances loaded = delegate.getBalances(missing, world);
+        Map<UUID, Integer> loadedIndex = new HashMap<>((int) (loaded.size() / 0.75f) + 1);
+        for (int i = 0; i < loaded.size(); i++) {
+            load(new AccountKey(loaded.getUniqueId(i), world), loaded.getBalance(i), now);
+            loadedIndex.put(loaded.getUniqueId(i), i);
+        }
+        if (missing.size() == players.size()) return loaded;
+        return merge(players, cached, loaded, loadedIndex);
+    }
+
+    @Override
+    public boolean has(OfflinePlayer player, double amount) {
+        return balance(player, null) >= amount;
+    }
+
+    @Override
+    public boolean has(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return balance(player, worldName) >= amount;
+    }
+
+    @Override
+    public boolean has(WorldContext world, OfflinePlayer player, double amount) {
+        return balance(player, world.getName()) >= amount;
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, double amount) {
+        return update(player, null, delegate.withdrawPlayer(player, amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return update(player, worldName, delegate.withdrawPlayer(player, worldName, amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        return update(player, world.getName(), delegate.withdrawPlayer(world, player, amount));
+    }
+
+    // a replayed transaction returns the original, possibly outdated balance, which must not be cached
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        EconomyResponse response = delegate.withdrawPlayer(player, worldName, amount, transactionId);
+        invalidate(player.getUniqueId(), worldName);
+        return response;
+    }
+
+    @Override
+    public EconomyResponse withdrawIfAtLeast(OfflinePlayer player, @Nullable String worldName, double amount, double floor) {
+        return update(player, worldName, delegate.withdrawIfAtLeast(player, worldName, amount, floor));
+    }
+
+    @Override
+    public int withdrawIfPossible(OfflinePlayer player, @Nullable String worldName, double amount) {
+        int type = delegate.withdrawIfPossible(player, worldName, amount);
+        invalidate(player.getUniqueId(), worldName);
+        return type;
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, double amount) {
+        return update(player, null, delegate.depositPlayer(player, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return update(player, worldName, delegate.depositPlayer(player, worldName, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        return update(player, world.getName(), delegate.depositPlayer(world, player, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        EconomyResponse response = delegate.depositPlayer(player, worldName, amount, transactionId);
+        invalidate(player.getUniqueId(), worldName);
+        return response;
+    }
+
+    @Override
+    public TransferResponse transfer(OfflinePlayer from, OfflinePlayer to, @Nullable String world, double amount) {
+        TransferResponse response = delegate.transfer(from, to, world, amount);
+        if (response.transactionSuccess()) {
+            put(new AccountKey(from.getUniqueId(), world), response.balance);
+            put(new AccountKey(to.getUniqueId(), world), response.recipientBalance);
+        } else {
+            invalidate(from.getUniqueId(), world);
+            invalidate(to.getUniqueId(), world);
+        }
+        return response;
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, long amount) {
+        MinorEconomyResponse response = delegate.withdrawPlayerMinor(player, amount);
+        invalidate(player.getUniqueId(), null);
+        return response;
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        MinorEconomyResponse response = delegate.withdrawPlayerMinor(player, worldName, amount);
+        invalidate(player.getUniqueId(), worldName);
+        return response;
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, long amount) {
+        MinorEconomyResponse response = delegate.depositPlayerMinor(player, amount);
+        invalidate(player.getUniqueId(), null);
+        return response;
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        MinorEconomyResponse response = delegate.depositPlayerMinor(player, worldName, amount);
+        invalidate(player.getUniqueId(), worldName);
+        return response;
+    }
+
+    @Override
+    public boolean createPlayerAccount(OfflinePlayer player) {
+        invalidate(player.getUniqueId(), null);
+        return delegate.createPlayerAccount(player);
+    }
+
+    @Override
+    public boolean createPlayerAccount(OfflinePlayer player, @Nullable String worldName) {
+        invalidate(player.getUniqueId(), worldName);
+        return delegate.createPlayerAccount(player, worldName);
+    }
+
+    // cached balances are discarded before and after the update, balances read during it may be outdated
+    @Override
+    public BulkOperation applyToAll(DoubleUnaryOperator function, @Nullable String world) {
+        invalidateAll();
+        BulkOperation operation = delegate.applyToAll(function, world);
+        operation.completion().whenComplete((changed, error) -> invalidateAll());
+        return operation;
+    }
+
+    private static Balances merge(Collection<? extends OfflinePlayer> players, Entry[] cached,
+                                  Balances loaded, Map<UUID, Integer> loadedIndex) {
+        Balances.Builder builder = Balances.builder(players.size());
+        int index = 0;
+        for (OfflinePlayer player : players) {
+            UUID uniqueId = player.getUniqueId();
+            Entry entry = cached[index++];
+            if (entry != null) builder.add(uniqueId, entry.balance());
+            else {
+                Integer position = loadedIndex.get(uniqueId);
+                builder.add(uniqueId, position != null ? loaded.getBalance(position) : 0);
+            }
+        }
+        return builder.build();
+    }
+
+    private double balance(OfflinePlayer player, @Nullable String world) {
+        AccountKey key = new AccountKey(player.getUniqueId(), world);
+        long now = System.nanoTime();
+        Entry entry = cache.get(key);
+        if (entry != null && entry.isValid(now)) {
+            hits.increment();
+            return entry.balance();
+        }
+        misses.increment();
+        double balance = world == null ? delegate.getBalance(player) : delegate.getBalance(player, world);
+        if (entry == null) load(key, balance, now);
+        else cache.replace(key, entry, new Entry(balance, now + expireAfterNanos));
+        return balance;
+    }
+
+    private EconomyResponse update(OfflinePlayer player, @Nullable String world, EconomyResponse response) {
+        if (response.transactionSuccess()) put(new AccountKey(player.getUniqueId(), world), response.balance);
+        else invalidate(player.getUniqueId(), world);
+        return response;
+    }
+
+    // loaded values never replace existing entries, which may stem from a more recent transaction
+    private void load(AccountKey key, double balance, long now) {
+        if (cache.putIfAbsent(key, new Entry(balance, now + expireAfterNanos)) == null) ensureCapacity(now);
+    }
+
+    private void put(AccountKey key, double balance) {
+        long now = System.nanoTime();
+        if (cache.put(key, new Entry(balance, now + expireAfterNanos)) == null) ensureCapacity(now);
+    }
+
+    // evicts in batches down to the low-water mark, so the full sweep runs at most once every evictionBatch inserts
+    private void ensureCapacity(long now) {
+        if (cache.size() <= maximumSize || !evicting.compareAndSet(false, true)) return;
+        try {
+            int target = maximumSize - evictionBatch;
+            Iterator<Entry> iterator = cache.values().iterator();
+            while (cache.size() > target && iterator.hasNext()) {
+                if (!iterator.next().isValid(now)) iterator.remove();
+            }
+            iterator = cache.values().iterator();
+            while (cache.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record Entry(double balance, long expiresAt) {
+        private boolean isValid(long now) {
+            return expiresAt - now > 0;
+        }
+    }
+}
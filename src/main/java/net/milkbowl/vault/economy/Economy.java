@@ -16,10 +16,25 @@
 
 package net.milkbowl.vault.economy;
 
+import net.milkbowl.vault.WorldContext;
 import org.bukkit.OfflinePlayer;
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.Stream;
 
 /**
  * The main economy API
@@ -116,6 +131,35 @@ public interface Economy {
      */
     boolean hasAccount(OfflinePlayer player, @Nullable String worldName);
 
+    /**
+     * Checks if this player has an account on the server yet in the given world context.
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global account will be checked.
+     *
+     * @param world  resolved world context, {@link WorldContext#GLOBAL} for the global account
+     * @param player to check in the world
+     * @return if the player has an account
+     * @see #hasAccount(OfflinePlayer, String)
+     * @implSpec The default implementation calls {@link #hasAccount(OfflinePlayer, String)} with the name of the world.
+     */
+    default boolean hasAccount(WorldContext world, OfflinePlayer player) {
+        return hasAccount(player, world.getName());
+    }
+
+    /**
+     * Gets a handle to the account of a player, optionally scoped to a world.
+     * The handle can be kept and reused to avoid resolving the account on every call.
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global account will be used.
+     *
+     * @param player the account holder
+     * @param world  name of the world or {@code null} for the global account
+     * @return a handle to the account
+     * @implSpec The default implementation returns a handle forwarding to the player methods of this economy.
+     * Providers should override this to bind the handle to their account record.
+     */
+    default Account account(OfflinePlayer player, @Nullable String world) {
+        return new EconomyAccount(this, player, world);
+    }
+
     /**
      * @deprecated As of VaultAPI 1.4 use {@link #getBalance(OfflinePlayer)} instead.
      */
@@ -146,6 +190,36 @@ public interface Economy {
      */
     double getBalance(OfflinePlayer player, @Nullable String world);
 
+    /**
+     * Gets balance of a player in the given world context.
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global balance will be returned.
+     *
+     * @param world  resolved world context, {@link WorldContext#GLOBAL} for the global balance
+     * @param player to check
+     * @return Amount currently held in players account
+     * @see #getBalance(OfflinePlayer, String)
+     * @implSpec The default implementation calls {@link #getBalance(OfflinePlayer, String)} with the name of the world.
+     */
+    default double getBalance(WorldContext world, OfflinePlayer player) {
+        return getBalance(player, world.getName());
+    }
+
+    /**
+     * Gets the balances of multiple players on the specified world in one call.
+     * Providers backed by external storage should answer this with a single query.
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global balances will be returned.
+     *
+     * @param players to check
+     * @param world   name of the world
+     * @return the balances of all given players, in iteration order of <b>players</b>
+     * @implSpec The default implementation calls {@link #getBalance(OfflinePlayer, String)} for every player.
+     */
+    default Balances getBalances(Collection<? extends OfflinePlayer> players, @Nullable String world) {
+        Balances.Builder builder = Balances.builder(players.size());
+        for (OfflinePlayer player : players) builder.add(player.getUniqueId(), getBalance(player, world));
+        return builder.build();
+    }
+
     /**
      * @deprecated As of VaultAPI 1.4 use {@link #has(OfflinePlayer, double)} instead.
      */
@@ -178,6 +252,21 @@ public interface Economy {
      */
     boolean has(OfflinePlayer player, @Nullable String worldName, double amount);
 
+    /**
+     * Checks if the player account has the amount in the given world context - DO NOT USE NEGATIVE AMOUNTS
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global balance will be returned.
+     *
+     * @param world  resolved world context, {@link WorldContext#GLOBAL} for the global account
+     * @param player to check
+     * @param amount to check for
+     * @return True if <b>player</b> has <b>amount</b>, False else wise
+     * @see #has(OfflinePlayer, String, double)
+     * @implSpec The default implementation calls {@link #has(OfflinePlayer, String, double)} with the name of the world.
+     */
+    default boolean has(WorldContext world, OfflinePlayer player, double amount) {
+        return has(player, world.getName(), amount);
+    }
+
     /**
      * @deprecated As of VaultAPI 1.4 use {@link #withdrawPlayer(OfflinePlayer, double)} instead.
      */
@@ -210,6 +299,81 @@ public interface Economy {
      */
     EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount);
 
+    /**
+     * Withdraw an amount from a player in the given world context - DO NOT USE NEGATIVE AMOUNTS
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global balance will be returned.
+     *
+     * @param world  resolved world context, {@link WorldContext#GLOBAL} for the global account
+     * @param player to withdraw from
+     * @param amount Amount to withdraw
+     * @return Detailed response of transaction
+     * @see #withdrawPlayer(OfflinePlayer, String, double)
+     * @implSpec The default implementation calls {@link #withdrawPlayer(OfflinePlayer, String, double)} with the name of the world.
+     */
+    default EconomyResponse withdrawPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        return withdrawPlayer(player, world.getName(), amount);
+    }
+
+    /**
+     * Withdraw an amount from a player on a given world at most once per transaction id - DO NOT USE NEGATIVE AMOUNTS
+     * <p>
+     * Retrying a withdrawal with the same transaction id within the deduplication window of the provider
+     * returns the original response instead of withdrawing again, which makes retries after timeouts safe.
+     * A transaction id must never be reused for a different transaction.
+     * IMPLEMENTATION SPECIFIC - the length of the deduplication window depends on the economy plugin.
+     *
+     * @param player        to withdraw from
+     * @param worldName     name of the world
+     * @param amount        Amount to withdraw
+     * @param transactionId caller-supplied id identifying this withdrawal across retries
+     * @return Detailed response of transaction, the original response if the transaction was already applied
+     * @implSpec The default implementation returns {@link EconomyResponse#NOT_IMPLEMENTED} without withdrawing,
+     * as it cannot remember transaction ids. Providers should override this to record the id along with the transaction.
+     */
+    default EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        return EconomyResponse.NOT_IMPLEMENTED;
+    }
+
+    /**
+     * Withdraw an amount from a player on a given world only if the remaining balance does not drop below a floor
+     * - DO NOT USE NEGATIVE AMOUNTS
+     * <p>
+     * The check and the withdrawal happen atomically, replacing the racy combination of
+     * {@link #has(OfflinePlayer, String, double)} and {@link #withdrawPlayer(OfflinePlayer, String, double)}.
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global balance will be used.
+     *
+     * @param player    to withdraw from
+     * @param worldName name of the world
+     * @param amount    Amount to withdraw
+     * @param floor     the minimum balance the account must keep after the withdrawal
+     * @return Detailed response of transaction, a {@link EconomyResponse.ResponseType#FAILURE failure}
+     * if the balance would drop below <b>floor</b>
+     * @implSpec The default implementation checks the balance before withdrawing, which is not atomic.
+     * Providers should override this with a compare-and-set or conditional update of their storage.
+     */
+    default EconomyResponse withdrawIfAtLeast(OfflinePlayer player, @Nullable String worldName, double amount, double floor) {
+        double balance = getBalance(player, worldName);
+        if (balance - amount < floor) return new EconomyResponse(0, balance,
+                EconomyResponse.ResponseType.FAILURE, "Insufficient funds");
+        return withdrawPlayer(player, worldName, amount);
+    }
+
+    /**
+     * Withdraw an amount from a player on a given world without allocating a response - DO NOT USE NEGATIVE AMOUNTS
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global balance will be returned.
+     *
+     * @param player    to withdraw from
+     * @param worldName name of the world
+     * @param amount    Amount to withdraw
+     * @return the {@link EconomyResponse.ResponseType#getId() id} of the resulting response type
+     * @see EconomyResponse.ResponseType#byId(int)
+     * @implSpec The default implementation returns the type of {@link #withdrawPlayer(OfflinePlayer, String, double)}.
+     * Providers should override this to skip the allocation of the response.
+     */
+    default int withdrawIfPossible(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return withdrawPlayer(player, worldName, amount).type.getId();
+    }
+
     /**
      * @deprecated As of VaultAPI 1.4 use {@link #depositPlayer(OfflinePlayer, double)} instead.
      */
@@ -242,6 +406,269 @@ public interface Economy {
      */
     EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount);
 
+    /**
+     * Deposit an amount to a player in the given world context - DO NOT USE NEGATIVE AMOUNTS
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global balance will be returned.
+     *
+     * @param world  resolved world context, {@link WorldContext#GLOBAL} for the global account
+     * @param player to deposit to
+     * @param amount Amount to deposit
+     * @return Detailed response of transaction
+     * @see #depositPlayer(OfflinePlayer, String, double)
+     * @implSpec The default implementation calls {@link #depositPlayer(OfflinePlayer, String, double)} with the name of the world.
+     */
+    default EconomyResponse depositPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        return depositPlayer(player, world.getName(), amount);
+    }
+
+    /**
+     * Deposit an amount to a player on a given world at most once per transaction id - DO NOT USE NEGATIVE AMOUNTS
+     * <p>
+     * Retrying a deposit with the same transaction id within the deduplication window of the provider
+     * returns the original response instead of depositing again, which makes retries after timeouts safe.
+     * A transaction id must never be reused for a different transaction.
+     * IMPLEMENTATION SPECIFIC - the length of the deduplication window depends on the economy plugin.
+     *
+     * @param player        to deposit to
+     * @param worldName     name of the world
+     * @param amount        Amount to deposit
+     * @param transactionId caller-supplied id identifying this deposit across retries
+     * @return Detailed response of transaction, the original response if the transaction was already applied
+     * @implSpec The default implementation returns {@link EconomyResponse#NOT_IMPLEMENTED} without depositing,
+     * as it cannot remember transaction ids. Providers should override this to record the id along with the transaction.
+     */
+    default EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        return EconomyResponse.NOT_IMPLEMENTED;
+    }
+
+    /**
+     * Transfers an amount from one player to another as a single operation - DO NOT USE NEGATIVE AMOUNTS
+     * <p>
+     * Providers should perform the withdrawal and the deposit atomically, e.g. in one storage transaction,
+     * so that money can neither be lost nor duplicated if the operation fails halfway.
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global balances will be used.
+     *
+     * @param from   to withdraw from
+     * @param to     to deposit to
+     * @param world  name of the world
+     * @param amount Amount to transfer
+     * @return Detailed response of transaction including the balances of both accounts
+     * @implSpec The default implementation withdraws the amount from {@code from} and deposits it to {@code to}.
+     * If the deposit fails, the withdrawn amount is deposited back to {@code from}.
+     * Providers able to do both in a single storage transaction should override this method.
+     */
+    default TransferResponse transfer(OfflinePlayer from, OfflinePlayer to, @Nullable String world, double amount) {
+        EconomyResponse withdrawal = withdrawPlayer(from, world, amount);
+        if (!withdrawal.transactionSuccess()) return new TransferResponse(0, withdrawal.balance,
+                getBalance(to, world), withdrawal.type, withdrawal.errorMessage);
+        EconomyResponse deposit = depositPlayer(to, world, amount);
+        if (deposit.transactionSuccess()) return new TransferResponse(amount, withdrawal.balance,
+                deposit.balance, EconomyResponse.ResponseType.SUCCESS, null);
+        EconomyResponse refund = depositPlayer(from, world, withdrawal.amount);
+        return new TransferResponse(0, refund.transactionSuccess() ? refund.balance : withdrawal.balance,
+                deposit.balance, deposit.type, refund.transactionSuccess() ? deposit.errorMessage
+                : "Failed to refund " + withdrawal.amount + " after failed deposit: " + deposit.errorMessage);
+    }
+
+    /**
+     * Gets balance of a player in {@link MinorUnits minor units}
+     *
+     * @param player of the player
+     * @return Amount currently held in players account, scaled by {@code 10^}{@link #fractionalDigits()}
+     * @implSpec The default implementation converts the amounts of {@link #getBalance(OfflinePlayer)} through {@link MinorUnits},
+     * which fails for economies not rounding amounts.
+     */
+    default long getBalanceMinor(OfflinePlayer player) {
+        return MinorUnits.toMinor(getBalance(player), fractionalDigits());
+    }
+
+    /**
+     * Gets balance of a player on the specified world in {@link MinorUnits minor units}
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global balance will be returned.
+     *
+     * @param player to check
+     * @param world  name of the world
+     * @return Amount currently held in players account, scaled by {@code 10^}{@link #fractionalDigits()}
+     * @implSpec The default implementation converts the amounts of {@link #getBalance(OfflinePlayer, String)} through {@link MinorUnits},
+     * which fails for economies not rounding amounts.
+     */
+    default long getBalanceMinor(OfflinePlayer player, @Nullable String world) {
+        return MinorUnits.toMinor(getBalance(player, world), fractionalDigits());
+    }
+
+    /**
+     * Checks if the player account has the amount in {@link MinorUnits minor units} - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param player to check
+     * @param amount to check for, in minor units
+     * @return True if <b>player</b> has <b>amount</b>, False else wise
+     * @implSpec The default implementation converts the amounts of {@link #has(OfflinePlayer, double)} through {@link MinorUnits},
+     * which fails for economies not rounding amounts.
+     */
+    default boolean hasMinor(OfflinePlayer player, long amount) {
+        return has(player, MinorUnits.toMajor(amount, fractionalDigits()));
+    }
+
+    /**
+     * Checks if the player account has the amount in {@link MinorUnits minor units} in a given world - DO NOT USE NEGATIVE AMOUNTS
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global balance will be returned.
+     *
+     * @param player    to check
+     * @param worldName to check with
+     * @param amount    to check for, in minor units
+     * @return True if <b>player</b> has <b>amount</b>, False else wise
+     * @implSpec The default implementation converts the amounts of {@link #has(OfflinePlayer, String, double)} through {@link MinorUnits},
+     * which fails for economies not rounding amounts.
+     */
+    default boolean hasMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        return has(player, worldName, MinorUnits.toMajor(amount, fractionalDigits()));
+    }
+
+    /**
+     * Withdraw an amount in {@link MinorUnits minor units} from a player - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param player to withdraw from
+     * @param amount Amount to withdraw, in minor units
+     * @return Detailed response of transaction
+     * @implSpec The default implementation converts the amounts of {@link #withdrawPlayer(OfflinePlayer, double)} through {@link MinorUnits},
+     * which fails for economies not rounding amounts.
+     */
+    default MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, long amount) {
+        return toMinor(withdrawPlayer(player, MinorUnits.toMajor(amount, fractionalDigits())));
+    }
+
+    /**
+     * Withdraw an amount in {@link MinorUnits minor units} from a player on a given world - DO NOT USE NEGATIVE AMOUNTS
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global balance will be returned.
+     *
+     * @param player    to withdraw from
+     * @param worldName name of the world
+     * @param amount    Amount to withdraw, in minor units
+     * @return Detailed response of transaction
+     * @implSpec The default implementation converts the amounts of {@link #withdrawPlayer(OfflinePlayer, String, double)} through {@link MinorUnits},
+     * which fails for economies not rounding amounts.
+     */
+    default MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        return toMinor(withdrawPlayer(player, worldName, MinorUnits.toMajor(amount, fractionalDigits())));
+    }
+
+    /**
+     * Deposit an amount in {@link MinorUnits minor units} to a player - DO NOT USE NEGATIVE AMOUNTS
+     *
+     * @param player to deposit to
+     * @param amount Amount to deposit, in minor units
+     * @return Detailed response of transaction
+     * @implSpec The default implementation converts the amounts of {@link #depositPlayer(OfflinePlayer, double)} through {@link MinorUnits},
+     * which fails for economies not rounding amounts.
+     */
+    default MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, long amount) {
+        return toMinor(depositPlayer(player, MinorUnits.toMajor(amount, fractionalDigits())));
+    }
+
+    /**
+     * Deposit an amount in {@link MinorUnits minor units} to a player on a given world - DO NOT USE NEGATIVE AMOUNTS
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, the global balance will be returned.
+     *
+     * @param player    to deposit to
+     * @param worldName name of the world
+     * @param amount    Amount to deposit, in minor units
+     * @return Detailed response of transaction
+     * @implSpec The default implementation converts the amounts of {@link #depositPlayer(OfflinePlayer, String, double)} through {@link MinorUnits},
+     * which fails for economies not rounding amounts.
+     */
+    default MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        return toMinor(depositPlayer(player, worldName, MinorUnits.toMajor(amount, fractionalDigits())));
+    }
+
+    /**
+     * Gets the player accounts with the highest balances, highest first
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, no balances will be returned.
+     *
+     * @param limit the maximum number of accounts to return
+     * @param world name of the world or {@code null} for the global accounts
+     * @return the top balances in descending order
+     * @implSpec The default implementation returns no balances.
+     */
+    default Balances topBalances(int limit, @Nullable String world) {
+        return Balances.empty();
+    }
+
+    /**
+     * Gets the rank of a player on the balance leaderboard, the richest player being ranked first
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, -1 will always be returned.
+     *
+     * @param player to rank
+     * @return the 1-based rank or -1 if the player is not ranked
+     * @implSpec The default implementation calls {@link #rankOf(OfflinePlayer, String)} for the global leaderboard.
+     */
+    default int rankOf(OfflinePlayer player) {
+        return rankOf(player, null);
+    }
+
+    /**
+     * Gets the rank of a player on the balance leaderboard of the given world, the richest player being ranked first
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, -1 will always be returned.
+     *
+     * @param player to rank
+     * @param world  name of the world or {@code null} for the global leaderboard
+     * @return the 1-based rank or -1 if the player is not ranked
+     * @implSpec The default implementation returns {@code -1}.
+     */
+    default int rankOf(OfflinePlayer player, @Nullable String world) {
+        return -1;
+    }
+
+    /**
+     * Gets a publisher of player balance changes, to be notified of changes instead of polling balances.
+     * <p>
+     * Changes are delivered in batches, each holding only the latest balance of every account that changed
+     * since the previous batch. Subscribers control the delivery rate through {@link Flow.Subscription#request(long)}.
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, no changes will be published.
+     *
+     * @return the publisher of balance change batches
+     * @implSpec The default implementation returns a publisher completing every subscriber right away.
+     */
+    default Flow.Publisher<List<BalanceChange>> balanceChanges() {
+        SubmissionPublisher<List<BalanceChange>> publisher = new SubmissionPublisher<>();
+        publisher.close();
+        return publisher;
+    }
+
+    /**
+     * Enumerates the unique ids of all player accounts on the given world.
+     * The returned spliterator can be split to process the accounts in parallel.
+     *
+     * @param world name of the world or {@code null} for the global accounts
+     * @return the unique ids of the account holders
+     * @throws UnsupportedOperationException if the economy plugin cannot enumerate its accounts
+     * @implSpec The default implementation throws an {@link UnsupportedOperationException}.
+     */
+    default Spliterator<UUID> accounts(@Nullable String world) {
+        throw new UnsupportedOperationException(getName() + " cannot enumerate its accounts");
+    }
+
+    /**
+     * Applies a function to the balance of every player account on the given world in the background,
+     * for example to pay interest, collect taxes or reset balances.
+     * <p>
+     * The function receives the current balance of an account and returns its new balance.
+     * It may be called concurrently and more than once for the same account, so it must be free of side effects.
+     * Accounts for which it returns a negative, non-finite or otherwise unsupported balance are left unchanged.
+     * IMPLEMENTATION SPECIFIC - economy plugins may update accounts in parallel and commit them in batches.
+     *
+     * @param function computes the new balance from the current balance
+     * @param world    name of the world or {@code null} for the global accounts
+     * @return a handle reporting the progress of the update and allowing it to be cancelled, failed right away
+     * with an {@link UnsupportedOperationException} if the economy plugin cannot enumerate its accounts
+     * @implSpec The default implementation enumerates the {@link #accounts(String) accounts} and updates them in parallel
+     * on the common fork-join pool through {@link BulkOperation#applyToAll(Economy, DoubleUnaryOperator, String, Executor)},
+     * depositing or withdrawing the difference to the new balance.
+     * Providers should override this to update their storage directly and in batches.
+     */
+    default BulkOperation applyToAll(DoubleUnaryOperator function, @Nullable String world) {
+        return BulkOperation.applyToAll(this, function, world, ForkJoinPool.commonPool());
+    }
+
     /**
      * @deprecated As of VaultAPI 1.4 use {@link #createBank(String, OfflinePlayer)} instead.
      */
@@ -330,6 +757,57 @@ public interface Economy {
      */
     EconomyResponse isBankMember(String name, OfflinePlayer player);
 
+    /**
+     * Checks if the player owns the bank account, without allocating a response
+     *
+     * @param name   of the account
+     * @param player to check for ownership
+     * @return true if the bank exists and is owned by the player
+     * @implSpec The default implementation checks the response of {@link #isBankOwner(String, OfflinePlayer)}.
+     */
+    default boolean ownsBank(String name, OfflinePlayer player) {
+        return isBankOwner(name, player).transactionSuccess();
+    }
+
+    /**
+     * Checks if the player is a member of the bank account, without allocating a response
+     *
+     * @param name   of the account
+     * @param player to check membership
+     * @return true if the bank exists and the player is a member of it
+     * @implSpec The default implementation checks the response of {@link #isBankMember(String, OfflinePlayer)}.
+     */
+    default boolean isMemberOfBank(String name, OfflinePlayer player) {
+        return isBankMember(name, player).transactionSuccess();
+    }
+
+    /**
+     * Gets the banks the player owns or is a member of
+     *
+     * @param player to get the banks of
+     * @return the names of the banks
+     * @implSpec The default implementation checks the membership of the player for every bank of {@link #getBanks()}.
+     * Providers should override this with a lookup in a {@link BankMembershipIndex} or their storage.
+     */
+    default Set<String> banksOf(OfflinePlayer player) {
+        Set<String> banks = new HashSet<>();
+        for (String name : getBanks()) if (isMemberOfBank(name, player)) banks.add(name);
+        return banks;
+    }
+
+    /**
+     * Gets the members of the bank account
+     * IMPLEMENTATION SPECIFIC - if an economy plugin does not support this, no members will be returned.
+     *
+     * @param name of the account
+     * @return the unique ids of the members, including the owner, or an empty set if the bank does not exist
+     * @implSpec The default implementation returns no members, as banks cannot be enumerated by member.
+     * Providers should override this with a lookup in a {@link BankMembershipIndex} or their storage.
+     */
+    default Set<UUID> membersOf(String name) {
+        return Set.of();
+    }
+
     /**
      * Gets the list of banks
      *
@@ -337,6 +815,60 @@ public interface Economy {
      */
     List<String> getBanks();
 
+    /**
+     * Gets a page of bank names in ascending order, optionally filtered by a prefix.
+     * Pass the last name of the previous page as {@code after} to get the next page.
+     *
+     * @param prefix the prefix bank names must start with or {@code null} for all banks
+     * @param after  the name all returned names are ordered after or {@code null} for the first page
+     * @param limit  the maximum number of names to return
+     * @return the bank names, fewer than {@code limit} if there are no more banks
+     * @implSpec The default implementation filters and sorts the result of {@link #getBanks()}.
+     * Providers storing many banks should override this with a sorted range query of their storage.
+     */
+    default List<String> getBanks(@Nullable String prefix, @Nullable String after, int limit) {
+        if (limit < 0) throw new IllegalArgumentException("Limit must not be negative: " + limit);
+        List<String> page = new ArrayList<>();
+        for (String name : getBanks()) {
+            if (prefix != null && !name.startsWith(prefix)) continue;
+            if (after != null && name.compareTo(after) <= 0) continue;
+            page.add(name);
+        }
+        page.sort(null);
+        return page.size() > limit ? new ArrayList<>(page.subList(0, limit)) : page;
+    }
+
+    /**
+     * Lazily enumerates the bank names in ascending order, optionally filtered by a prefix.
+     * Names are fetched from the provider in pages of the given size while the stream is consumed.
+     *
+     * @param prefix   the prefix bank names must start with or {@code null} for all banks
+     * @param pageSize the number of names fetched per page
+     * @return a stream of bank names
+     * @implSpec The default implementation fetches the pages through {@link #getBanks(String, String, int)}.
+     */
+    default Stream<String> banks(@Nullable String prefix, int pageSize) {
+        if (pageSize <= 0) throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        return Stream.iterate(getBanks(prefix, null, pageSize), page -> !page.isEmpty(), page -> page.size() < pageSize
+                ? List.of() : getBanks(prefix, page.get(page.size() - 1), pageSize)).flatMap(List::stream);
+    }
+
+    /**
+     * Gets the balances of the given banks in a single call
+     *
+     * @param names of the banks
+     * @return the balances keyed by bank name, banks that do not exist are left out
+     * @implSpec The default implementation calls {@link #bankBalance(String)} for every bank.
+     */
+    default Map<String, Double> bankBalances(Collection<String> names) {
+        Map<String, Double> balances = new HashMap<>();
+        for (String name : names) {
+            EconomyResponse response = bankBalance(name);
+            if (response.transactionSuccess()) balances.put(name, response.balance);
+        }
+        return balances;
+    }
+
     /**
      * @deprecated As of VaultAPI 1.4 use {@link #createPlayerAccount(OfflinePlayer)} instead.
      */
@@ -366,4 +898,11 @@ public interface Economy {
      * @return if the account creation was successful
      */
     boolean createPlayerAccount(OfflinePlayer player, @Nullable String worldName);
+
+    private MinorEconomyResponse toMinor(EconomyResponse response) {
+        if (response == EconomyResponse.NOT_IMPLEMENTED) return MinorEconomyResponse.NOT_IMPLEMENTED;
+        int digits = fractionalDigits();
+        return new MinorEconomyResponse(MinorUnits.toMinor(response.amount, digits),
+                MinorUnits.toMinor(response.balance, digits), response.type, response.errorMessage);
+    }
 }
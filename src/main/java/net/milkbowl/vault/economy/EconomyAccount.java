@@ -0,0 +1,54 @@
+package net.milkbowl.vault.economy;
+
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An {@link Account} forwarding to the player methods of an {@link Economy}.
+ */
+final class EconomyAccount implements Account {
+    private final Economy economy;
+    private final OfflinePlayer player;
+    private final @Nullable String world;
+
+    EconomyAccount(Economy economy, OfflinePlayer player, @Nullable String world) {
+        this.economy = economy;
+        this.player = player;
+        this.world = world;
+    }
+
+    @Override
+    public OfflinePlayer getPlayer() {
+        return player;
+    }
+
+    @Override
+    public @Nullable String getWorld() {
+        return world;
+    }
+
+    @Override
+    public double balance() {
+        return world == null ? economy.getBalance(player) : economy.getBalance(player, world);
+    }
+
+    @Override
+    public boolean has(double amount) {
+        return world == null ? economy.has(player, amount) : economy.has(player, world, amount);
+    }
+
+    @Override
+    public EconomyResponse withdraw(double amount) {
+        return world == null ? economy.withdrawPlayer(player, amount) : economy.withdrawPlayer(player, world, amount);
+    }
+
+    @Override
+    public EconomyResponse deposit(double amount) {
+        return world == null ? economy.depositPlayer(player, amount) : economy.depositPlayer(player, world, amount);
+    }
+
+    @Override
+    public String toString() {
+        return "EconomyAccount{economy=" + economy.getName() + ", player=" + player.getUniqueId() + ", world=" + world + "}";
+    }
+}
@@ -23,6 +23,15 @@ import org.jspecify.annotations.Nullable;
  * the method, or if the operation was a success or failure.
  */
 public class EconomyResponse {
+    /**
+     * Shared response for operations the economy does not implement
+     */
+    public static final EconomyResponse NOT_IMPLEMENTED = new EconomyResponse(0, 0, ResponseType.NOT_IMPLEMENTED, null);
+    /**
+     * Shared response for bank operations on economies without {@link Economy#hasBankSupport() bank support}
+     */
+    public static final EconomyResponse BANKS_NOT_SUPPORTED = new EconomyResponse(0, 0, ResponseType.NOT_IMPLEMENTED, "Banks are not supported");
+
     /**
      * Amount modified by calling method
      */
@@ -79,8 +88,29 @@ public class EconomyResponse {
             this.id = id;
         }
 
-        int getId() {
+        /**
+         * Gets the numeric id of this type, suitable for compact encoding of results
+         *
+         * @return the id
+         */
+        public int getId() {
             return id;
         }
+
+        /**
+         * Gets the type with the given numeric id
+         *
+         * @param id of the type
+         * @return the type
+         * @throws IllegalArgumentException if no type has the given id
+         */
+        public static ResponseType byId(int id) {
+            return switch (id) {
+                case 1 -> SUCCESS;
+                case 2 -> FAILURE;
+                case 3 -> NOT_IMPLEMENTED;
+                default -> throw new IllegalArgumentException("Unknown response type id: " + id);
+            };
+        }
     }
 }
@@ -0,0 +1,449 @@
+package net.milkbowl.vault.economy;
+
+import net.milkbowl.vault.WorldContext;
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * An {@link Economy} which forwards all its method calls to another economy.
+ * <p>
+ * Subclasses should override one or more methods to modify the behavior of the backing economy,
+ * making this the base for decorators that add behavior such as caching to any registered provider.
+ * <p>
+ * Decorators only implement {@link Economy}, even if the backing economy also implements {@link AsyncEconomy}.
+ * Forwarding its asynchronous methods would bypass the behavior the decorator adds,
+ * callers needing non-blocking calls should run the methods of the decorator on an executor of their own.
+ */
+@SuppressWarnings("deprecation")
+public abstract class ForwardingEconomy implements Economy {
+    protected final Economy delegate;
+
+    /**
+     * Constructor for ForwardingEconomy
+     *
+     * @param delegate the economy to forward method calls to
+     */
+    protected ForwardingEconomy(Economy delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    /**
+     * Gets the economy method calls are forwarded to
+     *
+     * @return the backing economy
+     */
+    public Economy getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean hasBankSupport() {
+        return delegate.hasBankSupport();
+    }
+
+    @Override
+    public int fractionalDigits() {
+        return delegate.fractionalDigits();
+    }
+
+    @Override
+    public String format(double amount) {
+        return delegate.format(amount);
+    }
+
+    @Override
+    public String currencyNamePlural() {
+        return delegate.currencyNamePlural();
+    }
+
+    @Override
+    public String currencyNameSingular() {
+        return delegate.currencyNameSingular();
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean hasAccount(String playerName) {
+        return delegate.hasAccount(playerName);
+    }
+
+    @Override
+    public boolean hasAccount(OfflinePlayer player) {
+        return delegate.hasAccount(player);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean hasAccount(String playerName, @Nullable String worldName) {
+        return delegate.hasAccount(playerName, worldName);
+    }
+
+    @Override
+    public boolean hasAccount(OfflinePlayer player, @Nullable String worldName) {
+        return delegate.hasAccount(player, worldName);
+    }
+
+    @Override
+    public boolean hasAccount(WorldContext world, OfflinePlayer player) {
+        return delegate.hasAccount(world, player);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned handle forwards to this economy, so overridden methods also apply to the handle.
+     */
+    @Override
+    public Account account(OfflinePlayer player, @Nullable String world) {
+        return new EconomyAccount(this, player, world);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public double getBalance(String playerName) {
+        return delegate.getBalance(playerName);
+    }
+
+    @Override
+    public double getBalance(OfflinePlayer player) {
+        return delegate.getBalance(player);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public double getBalance(String playerName, @Nullable String world) {
+        return delegate.getBalance(playerName, world);
+    }
+
+    @Override
+    public double getBalance(OfflinePlayer player, @Nullable String world) {
+        return delegate.getBalance(player, world);
+    }
+
+    @Override
+    public double getBalance(WorldContext world, OfflinePlayer player) {
+        return delegate.getBalance(world, player);
+    }
+
+    @Override
+    public Balances getBalances(Collection<? extends OfflinePlayer> players, @Nullable String world) {
+        return delegate.getBalances(players, world);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean has(String playerName, double amount) {
+        return delegate.has(playerName, amount);
+    }
+
+    @Override
+    public boolean has(OfflinePlayer player, double amount) {
+        return delegate.has(player, amount);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean has(String playerName, @Nullable String worldName, double amount) {
+        return delegate.has(playerName, worldName, amount);
+    }
+
+    @Override
+    public boolean has(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return delegate.has(player, worldName, amount);
+    }
+
+    @Override
+    public boolean has(WorldContext world, OfflinePlayer player, double amount) {
+        return delegate.has(world, player, amount);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse withdrawPlayer(String playerName, double amount) {
+        return delegate.withdrawPlayer(playerName, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, double amount) {
+        return delegate.withdrawPlayer(player, amount);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse withdrawPlayer(String playerName, @Nullable String worldName, double amount) {
+        return delegate.withdrawPlayer(playerName, worldName, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return delegate.withdrawPlayer(player, worldName, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        return delegate.withdrawPlayer(world, player, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        return delegate.withdrawPlayer(player, worldName, amount, transactionId);
+    }
+
+    @Override
+    public EconomyResponse withdrawIfAtLeast(OfflinePlayer player, @Nullable String worldName, double amount, double floor) {
+        return delegate.withdrawIfAtLeast(player, worldName, amount, floor);
+    }
+
+    @Override
+    public int withdrawIfPossible(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return delegate.withdrawIfPossible(player, worldName, amount);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse depositPlayer(String playerName, double amount) {
+        return delegate.depositPlayer(playerName, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, double amount) {
+        return delegate.depositPlayer(player, amount);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse depositPlayer(String playerName, @Nullable String worldName, double amount) {
+        return delegate.depositPlayer(playerName, worldName, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return delegate.depositPlayer(player, worldName, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        return delegate.depositPlayer(world, player, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        return delegate.depositPlayer(player, worldName, amount, transactionId);
+    }
+
+    @Override
+    public TransferResponse transfer(OfflinePlayer from, OfflinePlayer to, @Nullable String world, double amount) {
+        return delegate.transfer(from, to, world, amount);
+    }
+
+    @Override
+    public long getBalanceMinor(OfflinePlayer player) {
+        return delegate.getBalanceMinor(player);
+    }
+
+    @Override
+    public long getBalanceMinor(OfflinePlayer player, @Nullable String world) {
+        return delegate.getBalanceMinor(player, world);
+    }
+
+    @Override
+    public boolean hasMinor(OfflinePlayer player, long amount) {
+        return delegate.hasMinor(player, amount);
+    }
+
+    @Override
+    public boolean hasMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        return delegate.hasMinor(player, worldName, amount);
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, long amount) {
+        return delegate.withdrawPlayerMinor(player, amount);
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        return delegate.withdrawPlayerMinor(player, worldName, amount);
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, long amount) {
+        return delegate.depositPlayerMinor(player, amount);
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        return delegate.depositPlayerMinor(player, worldName, amount);
+    }
+
+    @Override
+    public Balances topBalances(int limit, @Nullable String world) {
+        return delegate.topBalances(limit, world);
+    }
+
+    @Override
+    public int rankOf(OfflinePlayer player) {
+        return delegate.rankOf(player);
+    }
+
+    @Override
+    public int rankOf(OfflinePlayer player, @Nullable String world) {
+        return delegate.rankOf(player, world);
+    }
+
+    @Override
+    public Flow.Publisher<List<BalanceChange>> balanceChanges() {
+        return delegate.balanceChanges();
+    }
+
+    @Override
+    public Spliterator<UUID> accounts(@Nullable String world) {
+        return delegate.accounts(world);
+    }
+
+    @Override
+    public BulkOperation applyToAll(DoubleUnaryOperator function, @Nullable String world) {
+        return delegate.applyToAll(function, world);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse createBank(String name, String player) {
+        return delegate.createBank(name, player);
+    }
+
+    @Override
+    public EconomyResponse createBank(String name, OfflinePlayer player) {
+        return delegate.createBank(name, player);
+    }
+
+    @Override
+    public EconomyResponse deleteBank(String name) {
+        return delegate.deleteBank(name);
+    }
+
+    @Override
+    public EconomyResponse bankBalance(String name) {
+        return delegate.bankBalance(name);
+    }
+
+    @Override
+    public EconomyResponse bankHas(String name, double amount) {
+        return delegate.bankHas(name, amount);
+    }
+
+    @Override
+    public EconomyResponse bankWithdraw(String name, double amount) {
+        return delegate.bankWithdraw(name, amount);
+    }
+
+    @Override
+    public EconomyResponse bankDeposit(String name, double amount) {
+        return delegate.bankDeposit(name, amount);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse isBankOwner(String name, String playerName) {
+        return delegate.isBankOwner(name, playerName);
+    }
+
+    @Override
+    public EconomyResponse isBankOwner(String name, OfflinePlayer player) {
+        return delegate.isBankOwner(name, player);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse isBankMember(String name, String playerName) {
+        return delegate.isBankMember(name, playerName);
+    }
+
+    @Override
+    public EconomyResponse isBankMember(String name, OfflinePlayer player) {
+        return delegate.isBankMember(name, player);
+    }
+
+    @Override
+    public boolean ownsBank(String name, OfflinePlayer player) {
+        return delegate.ownsBank(name, player);
+    }
+
+    @Override
+    public boolean isMemberOfBank(String name, OfflinePlayer player) {
+        return delegate.isMemberOfBank(name, player);
+    }
+
+    @Override
+    public Set<String> banksOf(OfflinePlayer player) {
+        return delegate.banksOf(player);
+    }
+
+    @Override
+    public Set<UUID> membersOf(String name) {
+        return delegate.membersOf(name);
+    }
+
+    @Override
+    public List<String> getBanks() {
+        return delegate.getBanks();
+    }
+
+    @Override
+    public List<String> getBanks(@Nullable String prefix, @Nullable String after, int limit) {
+        return delegate.getBanks(prefix, after, limit);
+    }
+
+    @Override
+    public Stream<String> banks(@Nullable String prefix, int pageSize) {
+        return delegate.banks(prefix, pageSize);
+    }
+
+    @Override
+    public Map<String, Double> bankBalances(Collection<String> names) {
+        return delegate.bankBalances(names);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean createPlayerAccount(String playerName) {
+        return delegate.createPlayerAccount(playerName);
+    }
+
+    @Override
+    public boolean createPlayerAccount(OfflinePlayer player) {
+        return delegate.createPlayerAccount(player);
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean createPlayerAccount(String playerName, @Nullable String worldName) {
+        return delegate.createPlayerAccount(playerName, worldName);
+    }
+
+    @Override
+    public boolean createPlayerAccount(OfflinePlayer player, @Nullable String worldName) {
+        return delegate.createPlayerAccount(player, worldName);
+    }
+}
@@ -0,0 +1,733 @@
+package net.milkbowl.vault.economy;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A reference {@link Economy} keeping all player and bank accounts in memory.
+ * <p>
+ * Balances are stored as {@link MinorUnits minor units} and updated with compare-and-set loops,
+ * so operations on different accounts never contend and operations on the same account never block.
+ * Player accounts can optionally be kept per world.
+ * <p>
+ * Providers can use this as their hot in-memory tier in front of persistent storage,
+ * plugins can use it as a local stand-in for testing.
+ * The deprecated name-based methods resolve names through {@link Bukkit#getOfflinePlayerIfCached(String)}.
+ */
+@SuppressWarnings("deprecation")
+public class InMemoryEconomy extends AbstractEconomy {
+    private static final long INSUFFICIENT = Long.MIN_VALUE;
+    private static final long OVERFLOW = Long.MIN_VALUE + 1;
+    private static final long PARALLELISM_THRESHOLD = 1024;
+
+    private final ConcurrentHashMap<AccountKey, Balance> accounts = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Bank> banks = new ConcurrentSkipListMap<>();
+    private final BankMembershipIndex membership = new BankMembershipIndex();
+    private final String name;
+    private final String currencyNameSingular;
+    private final String currencyNamePlural;
+    private final int fractionalDigits;
+    private final boolean perWorldAccounts;
+
+    /**
+     * Constructor for InMemoryEconomy
+     *
+     * @param name                 the name of the economy
+     * @param currencyNameSingular the name of the currency in singular form
+     * @param currencyNamePlural   the name of the currency in plural form
+     * @param fractionalDigits     the number of digits after the decimal point kept
+     * @param perWorldAccounts     whether players have a separate account per world
+     */
+    public InMemoryEconomy(String name, String currencyNameSingular, String currencyNamePlural,
+                           int fractionalDigits, boolean perWorldAccounts) {
+        MinorUnits.scale(fractionalDigits);
+        this.name = name;
+        this.currencyNameSingular = currencyNameSingular;
+        this.currencyNamePlural = currencyNamePlural;
+        this.fractionalDigits = fractionalDigits;
+        this.perWorldAccounts = perWorldAccounts;
+    }
+
+    /**
+     * Constructor for InMemoryEconomy without currency names, keeping two fractional digits and global accounts
+     *
+     * @param name the name of the economy
+     */
+    public InMemoryEconomy(String name) {
+        this(name, "", "", 2, false);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean hasBankSupport() {
+        return true;
+    }
+
+    @Override
+    public int fractionalDigits() {
+        return fractionalDigits;
+    }
+
+    @Override
+    public String format(double amount) {
+        String currency = amount == 1 ? currencyNameSingular : currencyNamePlural;
+        String formatted = String.format(Locale.ROOT, "%,." + fractionalDigits + "f", amount);
+        return currency.isEmpty() ? formatted : formatted + " " + currency;
+    }
+
+    @Override
+    public String currencyNamePlural() {
+        return currencyNamePlural;
+    }
+
+    @Override
+    public String currencyNameSingular() {
+        return currencyNameSingular;
+    }
+
+    @Override
+    public boolean hasAccount(UUID uniqueId, @Nullable String worldName) {
+        return accounts.containsKey(key(uniqueId, worldName));
+    }
+
+    @Override
+    public boolean createPlayerAccount(UUID uniqueId, @Nullable String worldName) {
+        return accounts.putIfAbsent(key(uniqueId, worldName), new Balance()) == null;
+    }
+
+    @Override
+    public double getBalance(UUID uniqueId, @Nullable String world) {
+        Balance balance = accounts.get(key(uniqueId, world));
+        return balance != null ? toMajor(balance.get()) : 0;
+    }
+
+    @Override
+    public Balances getBalances(Collection<? extends OfflinePlayer> players, @Nullable String world) {
+        Balances.Builder builder = Balances.builder(players.size());
+        for (OfflinePlayer player : players) builder.add(player.getUniqueId(), getBalance(player.getUniqueId(), world));
+        return builder.build();
+    }
+
+    @Override
+    public boolean has(UUID uniqueId, @Nullable String worldName, double amount) {
+        Balance balance = accounts.get(key(uniqueId, worldName));
+        return balance != null && isRepresentable(amount) && balance.get() >= toMinor(amount);
+    }
+
+    // the unique id based methods publish the balance change themselves
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, double amount) {
+        return withdrawPlayer(player.getUniqueId(), null, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return withdrawPlayer(player.getUniqueId(), worldName, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(UUID uniqueId, @Nullable String worldName, double amount) {
+        if (amount < 0) return failure(0, "Cannot withdraw negative funds");
+        if (!isRepresentable(amount)) return failure(0, "Invalid amount");
+        AccountKey key = key(uniqueId, worldName);
+        Balance balance = accounts.get(key);
+        if (balance == null) return failure(0, "Account does not exist");
+        long minor = toMinor(amount);
+        long result = balance.withdraw(minor, minor);
+        if (result == INSUFFICIENT) return failure(toMajor(balance.get()), "Insufficient funds");
+        balanceChanged(uniqueId, key.world(), toMajor(result));
+        return new EconomyResponse(amount, toMajor(result), EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, double amount) {
+        return depositPlayer(player.getUniqueId(), null, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return depositPlayer(player.getUniqueId(), worldName, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(UUID uniqueId, @Nullable String worldName, double amount) {
+        if (amount < 0) return failure(0, "Cannot deposit negative funds");
+        if (!isRepresentable(amount)) return failure(0, "Invalid amount");
+        AccountKey key = key(uniqueId, worldName);
+        Balance balance = accounts.get(key);
+        if (balance == null) return failure(0, "Account does not exist");
+        long result = balance.deposit(toMinor(amount));
+        if (result == OVERFLOW) return failure(toMajor(balance.get()), "Balance limit exceeded");
+        balanceChanged(uniqueId, key.world(), toMajor(result));
+        return new EconomyResponse(amount, toMajor(result), EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public EconomyResponse withdrawIfAtLeast(OfflinePlayer player, @Nullable String worldName, double amount, double floor) {
+        if (amount < 0) return failure(0, "Cannot withdraw negative funds");
+        if (!isRepresentable(amount) || !isRepresentable(floor)) return failure(0, "Invalid amount");
+        AccountKey key = key(player.getUniqueId(), worldName);
+        Balance balance = accounts.get(key);
+        if (balance == null) return failure(0, "Account does not exist");
+        long minor = toMinor(amount);
+        long floorMinor = toMinor(floor);
+        if (floorMinor > Long.MAX_VALUE - minor) return failure(toMajor(balance.get()), "Insufficient funds");
+        long result = balance.withdraw(minor, minor + floorMinor);
+        if (result == INSUFFICIENT) return failure(toMajor(balance.get()), "Insufficient funds");
+        balanceChanged(player.getUniqueId(), key.world(), toMajor(result));
+        return new EconomyResponse(amount, toMajor(result), EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public int withdrawIfPossible(OfflinePlayer player, @Nullable String worldName, double amount) {
+        if (amount < 0 || !isRepresentable(amount)) return EconomyResponse.ResponseType.FAILURE.getId();
+        AccountKey key = key(player.getUniqueId(), worldName);
+        Balance balance = accounts.get(key);
+        if (balance == null) return EconomyResponse.ResponseType.FAILURE.getId();
+        long minor = toMinor(amount);
+        long result = balance.withdraw(minor, minor);
+        if (result == INSUFFICIENT) return EconomyResponse.ResponseType.FAILURE.getId();
+        balanceChanged(player.getUniqueId(), key.world(), toMajor(result));
+        return EconomyResponse.ResponseType.SUCCESS.getId();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The withdrawal and the deposit are two separate atomic updates, the transfer as a whole is not atomic.
+     * Money is never lost or duplicated, but a concurrent reader may see the amount missing from both accounts
+     * between the withdrawal and the deposit.
+     */
+    @Override
+    public TransferResponse transfer(OfflinePlayer from, OfflinePlayer to, @Nullable String world, double amount) {
+        if (amount < 0) return new TransferResponse(0, 0, 0, EconomyResponse.ResponseType.FAILURE, "Cannot transfer negative funds");
+        if (!isRepresentable(amount)) return new TransferResponse(0, 0, 0, EconomyResponse.ResponseType.FAILURE, "Invalid amount");
+        AccountKey senderKey = key(from.getUniqueId(), world);
+        Balance sender = accounts.get(senderKey);
+        Balance recipient = accounts.get(key(to.getUniqueId(), world));
+        if (sender == null || recipient == null) return new TransferResponse(0, 0, 0,
+                EconomyResponse.ResponseType.FAILURE, "Account does not exist");
+        long minor = toMinor(amount);
+        long senderBalance = sender.withdraw(minor, minor);
+        if (senderBalance == INSUFFICIENT) return new TransferResponse(0, toMajor(sender.get()), toMajor(recipient.get()),
+                EconomyResponse.ResponseType.FAILURE, "Insufficient funds");
+        long recipientBalance = recipient.deposit(minor);
+        if (recipientBalance == OVERFLOW) return new TransferResponse(0, toMajor(sender.deposit(minor)),
+                toMajor(recipient.get()), EconomyResponse.ResponseType.FAILURE, "Balance limit exceeded");
+        balanceChanged(from.getUniqueId(), senderKey.world(), toMajor(senderBalance));
+        balanceChanged(to.getUniqueId(), senderKey.world(), toMajor(recipientBalance));
+        return new TransferResponse(amount, toMajor(senderBalance), toMajor(recipientBalance),
+                EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public long getBalanceMinor(OfflinePlayer player) {
+        return getBalanceMinor(player, null);
+    }
+
+    @Override
+    public long getBalanceMinor(OfflinePlayer player, @Nullable String world) {
+        Balance balance = accounts.get(key(player.getUniqueId(), world));
+        return balance != null ? balance.get() : 0;
+    }
+
+    @Override
+    public boolean hasMinor(OfflinePlayer player, long amount) {
+        return hasMinor(player, null, amount);
+    }
+
+    @Override
+    public boolean hasMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        Balance balance = accounts.get(key(player.getUniqueId(), worldName));
+        return balance != null && balance.get() >= amount;
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, long amount) {
+        return withdrawPlayerMinor(player, null, amount);
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        if (amount < 0) return minorFailure(0, "Cannot withdraw negative funds");
+        AccountKey key = key(player.getUniqueId(), worldName);
+        Balance balance = accounts.get(key);
+        if (balance == null) return minorFailure(0, "Account does not exist");
+        long result = balance.withdraw(amount, amount);
+        if (result == INSUFFICIENT) return minorFailure(balance.get(), "Insufficient funds");
+        balanceChanged(player.getUniqueId(), key.world(), toMajor(result));
+        return new MinorEconomyResponse(amount, result, EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, long amount) {
+        return depositPlayerMinor(player, null, amount);
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        if (amount < 0) return minorFailure(0, "Cannot deposit negative funds");
+        AccountKey key = key(player.getUniqueId(), worldName);
+        Balance balance = accounts.get(key);
+        if (balance == null) return minorFailure(0, "Account does not exist");
+        long result = balance.deposit(amount);
+        if (result == OVERFLOW) return minorFailure(balance.get(), "Balance limit exceeded");
+        balanceChanged(player.getUniqueId(), key.world(), toMajor(result));
+        return new MinorEconomyResponse(amount, result, EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public Account account(OfflinePlayer player, @Nullable String world) {
+        AccountKey key = key(player.getUniqueId(), world);
+        Balance balance = accounts.get(key);
+        return balance != null ? new BoundAccount(player, world, key, balance) : super.account(player, world);
+    }
+
+    // accounts shared by all worlds are reported under their key, the global account
+    @Override
+    protected void balanceChanged(UUID uniqueId, @Nullable String world, double balance) {
+        super.balanceChanged(uniqueId, perWorldAccounts ? world : null, balance);
+    }
+
+    @Override
+    protected void forEachBalance(BalanceSnapshot.Visitor visitor) {
+        accounts.forEach((key, balance) -> visitor.visit(key.uniqueId(), key.world(), toMajor(balance.get())));
+    }
+
+    @Override
+    protected void restoreBalance(UUID uniqueId, @Nullable String world, double balance) {
+        AccountKey key = key(uniqueId, world);
+        long minor = toMinor(balance);
+        accounts.computeIfAbsent(key, ignored -> new Balance()).set(minor);
+        balanceChanged(uniqueId, key.world(), toMajor(minor));
+    }
+
+    @Override
+    public Spliterator<UUID> accounts(@Nullable String world) {
+        String scope = perWorldAccounts ? world : null;
+        return accounts.keySet().stream()
+                .filter(key -> Objects.equals(key.world(), scope))
+                .map(AccountKey::uniqueId)
+                .spliterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The accounts are updated in parallel on the common fork-join pool, each account atomically.
+     */
+    @Override
+    public BulkOperation applyToAll(DoubleUnaryOperator function, @Nullable String world) {
+        String scope = perWorldAccounts ? world : null;
+        BulkOperation operation = new BulkOperation();
+        if (!perWorldAccounts) operation.setTotal(accounts.size());
+        CompletableFuture.runAsync(() -> {
+            accounts.forEach(PARALLELISM_THRESHOLD, (key, balance) -> {
+                if (operation.isCancelled() || !Objects.equals(key.world(), scope)) return;
+                long current, updated;
+                do {
+                    current = balance.get();
+                    double result = function.applyAsDouble(toMajor(current));
+                    updated = result >= 0 && isRepresentable(result) ? toMinor(result) : current;
+                } while (updated != current && !balance.compareAndSet(current, updated));
+                if (updated != current) balanceChanged(key.uniqueId(), key.world(), toMajor(updated));
+                operation.processed(1, updated != current ? 1 : 0);
+            });
+            operation.complete();
+        }, getAsyncExecutor()).whenComplete((ignored, error) -> {
+            if (error != null) operation.fail(error instanceof CompletionException ? error.getCause() : error);
+        });
+        return operation;
+    }
+
+    @Override
+    public EconomyResponse createBank(String name, UUID uniqueId) {
+        if (banks.putIfAbsent(name, new Bank()) != null) return failure(0, "Bank already exists");
+        membership.addBank(name, uniqueId);
+        return new EconomyResponse(0, 0, EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public EconomyResponse deleteBank(String name) {
+        Bank bank = banks.remove(name);
+        if (bank == null) return failure(0, "Bank does not exist");
+        membership.removeBank(name);
+        return new EconomyResponse(0, toMajor(bank.balance.get()), EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public EconomyResponse bankBalance(String name) {
+        Bank bank = banks.get(name);
+        if (bank == null) return failure(0, "Bank does not exist");
+        return new EconomyResponse(0, toMajor(bank.balance.get()), EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public EconomyResponse bankHas(String name, double amount) {
+        Bank bank = banks.get(name);
+        if (bank == null) return failure(0, "Bank does not exist");
+        long balance = bank.balance.get();
+        if (!isRepresentable(amount)) return failure(toMajor(balance), "Invalid amount");
+        if (balance < toMinor(amount)) return failure(toMajor(balance), "Insufficient funds");
+        return new EconomyResponse(amount, toMajor(balance), EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public EconomyResponse bankWithdraw(String name, double amount) {
+        if (amount < 0) return failure(0, "Cannot withdraw negative funds");
+        if (!isRepresentable(amount)) return failure(0, "Invalid amount");
+        Bank bank = banks.get(name);
+        if (bank == null) return failure(0, "Bank does not exist");
+        long minor = toMinor(amount);
+        long result = bank.balance.withdraw(minor, minor);
+        if (result == INSUFFICIENT) return failure(toMajor(bank.balance.get()), "Insufficient funds");
+        return new EconomyResponse(amount, toMajor(result), EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public EconomyResponse bankDeposit(String name, double amount) {
+        if (amount < 0) return failure(0, "Cannot deposit negative funds");
+        if (!isRepresentable(amount)) return failure(0, "Invalid amount");
+        Bank bank = banks.get(name);
+        if (bank == null) return failure(0, "Bank does not exist");
+        long result = bank.balance.deposit(toMinor(amount));
+        if (result == OVERFLOW) return failure(toMajor(bank.balance.get()), "Balance limit exceeded");
+        return new EconomyResponse(amount, toMajor(result), EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public EconomyResponse isBankOwner(String name, UUID uniqueId) {
+        Bank bank = banks.get(name);
+        if (bank == null) return failure(0, "Bank does not exist");
+        if (!membership.isOwner(name, uniqueId)) return failure(toMajor(bank.balance.get()), "Player is not the bank owner");
+        return new EconomyResponse(0, toMajor(bank.balance.get()), EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public EconomyResponse isBankMember(String name, UUID uniqueId) {
+        Bank bank = banks.get(name);
+        if (bank == null) return failure(0, "Bank does not exist");
+        if (!membership.isMember(name, uniqueId)) return failure(toMajor(bank.balance.get()), "Player is not a bank member");
+        return new EconomyResponse(0, toMajor(bank.balance.get()), EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    /**
+     * Adds a member to a bank account
+     *
+     * @param name     of the bank
+     * @param uniqueId of the player to add
+     * @return true if the player was added, false if the bank does not exist or the player was already a member
+     */
+    public boolean addBankMember(String name, UUID uniqueId) {
+        return membership.addMember(name, uniqueId);
+    }
+
+    /**
+     * Removes a member from a bank account
+     *
+     * @param name     of the bank
+     * @param uniqueId of the player to remove
+     * @return true if the player was removed, false if the bank does not exist or the player was no member
+     */
+    public boolean removeBankMember(String name, UUID uniqueId) {
+        return membership.removeMember(name, uniqueId);
+    }
+
+    @Override
+    public boolean ownsBank(String name, OfflinePlayer player) {
+        return membership.isOwner(name, player.getUniqueId());
+    }
+
+    @Override
+    public boolean isMemberOfBank(String name, OfflinePlayer player) {
+        return membership.isMember(name, player.getUniqueId());
+    }
+
+    @Override
+    public Set<String> banksOf(OfflinePlayer player) {
+        return Set.copyOf(membership.banksOf(player.getUniqueId()));
+    }
+
+    @Override
+    public Set<UUID> membersOf(String name) {
+        return Set.copyOf(membership.membersOf(name));
+    }
+
+    @Override
+    public List<String> getBanks() {
+        return new ArrayList<>(banks.keySet());
+    }
+
+    @Override
+    public List<String> getBanks(@Nullable String prefix, @Nullable String after, int limit) {
+        if (limit < 0) throw new IllegalArgumentException("Limit must not be negative: " + limit);
+        NavigableMap<String, Bank> range = after != null && (prefix == null || after.compareTo(prefix) >= 0)
+                ? banks.tailMap(after, false) : prefix != null ? banks.tailMap(prefix, true) : banks;
+        List<String> page = new ArrayList<>(Math.min(limit, 64));
+        for (String name : range.keySet()) {
+            if (page.size() == limit || (prefix != null && !name.startsWith(prefix))) break;
+            page.add(name);
+        }
+        return page;
+    }
+
+    @Override
+    public Map<String, Double> bankBalances(Collection<String> names) {
+        Map<String, Double> balances = new HashMap<>();
+        for (String name : names) {
+            Bank bank = banks.get(name);
+            if (bank != null) balances.put(name, toMajor(bank.balance.get()));
+        }
+        return balances;
+    }
+
+    @Override
+    public boolean hasAccount(String playerName) {
+        UUID uniqueId = resolveUniqueId(playerName);
+        return uniqueId != null && hasAccount(uniqueId, null);
+    }
+
+    @Override
+    public boolean hasAccount(String playerName, @Nullable String worldName) {
+        UUID uniqueId = resolveUniqueId(playerName);
+        return uniqueId != null && hasAccount(uniqueId, worldName);
+    }
+
+    @Override
+    public double getBalance(String playerName) {
+        UUID uniqueId = resolveUniqueId(playerName);
+        return uniqueId != null ? getBalance(uniqueId, null) : 0;
+    }
+
+    @Override
+    public double getBalance(String playerName, @Nullable String world) {
+        UUID uniqueId = resolveUniqueId(playerName);
+        return uniqueId != null ? getBalance(uniqueId, world) : 0;
+    }
+
+    @Override
+    public boolean has(String playerName, double amount) {
+        UUID uniqueId = resolveUniqueId(playerName);
+        return uniqueId != null && has(uniqueId, null, amount);
+    }
+
+    @Override
+    public boolean has(String playerName, @Nullable String worldName, double amount) {
+        UUID uniqueId = resolveUniqueId(playerName);
+        return uniqueId != null && has(uniqueId, worldName, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(String playerName, double amount) {
+        return withdrawPlayer(playerName, null, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(String playerName, @Nullable String worldName, double amount) {
+        UUID uniqueId = resolveUniqueId(playerName);
+        if (uniqueId == null) return failure(0, "Account does not exist");
+        EconomyResponse response = withdrawPlayer(uniqueId, worldName, amount);
+        if (response.transactionSuccess()) balanceChanged(uniqueId, key(uniqueId, worldName).world(), response.balance);
+        return response;
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(String playerName, double amount) {
+        return depositPlayer(playerName, null, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(String playerName, @Nullable String worldName, double amount) {
+        UUID uniqueId = resolveUniqueId(playerName);
+        if (uniqueId == null) return failure(0, "Account does not exist");
+        EconomyResponse response = depositPlayer(uniqueId, worldName, amount);
+        if (response.transactionSuccess()) balanceChanged(uniqueId, key(uniqueId, worldName).world(), response.balance);
+        return response;
+    }
+
+    @Override
+    public EconomyResponse createBank(String name, String player) {
+        UUID uniqueId = resolveUniqueId(player);
+        return uniqueId != null ? createBank(name, uniqueId) : failure(0, "Player does not exist");
+    }
+
+    @Override
+    public EconomyResponse isBankOwner(String name, String playerName) {
+        UUID uniqueId = resolveUniqueId(playerName);
+        return uniqueId != null ? isBankOwner(name, uniqueId) : failure(0, "Player does not exist");
+    }
+
+    @Override
+    public EconomyResponse isBankMember(String name, String playerName) {
+        UUID uniqueId = resolveUniqueId(playerName);
+        return uniqueId != null ? isBankMember(name, uniqueId) : failure(0, "Player does not exist");
+    }
+
+    @Override
+    public boolean createPlayerAccount(String playerName) {
+        UUID uniqueId = resolveUniqueId(playerName);
+        return uniqueId != null && createPlayerAccount(uniqueId, null);
+    }
+
+    @Override
+    public boolean createPlayerAccount(String playerName, @Nullable String worldName) {
+        UUID uniqueId = resolveUniqueId(playerName);
+        return uniqueId != null && createPlayerAccount(uniqueId, worldName);
+    }
+
+    /**
+     * Resolves the unique id of a player for the deprecated name-based methods.
+     *
+     * @param playerName the name of the player
+     * @return the unique id or {@code null} if unknown
+     */
+    protected @Nullable UUID resolveUniqueId(@Nullable String playerName) {
+        if (playerName == null) return null;
+        OfflinePlayer player = Bukkit.getOfflinePlayerIfCached(playerName);
+        return player != null ? player.getUniqueId() : null;
+    }
+
+    private AccountKey key(UUID uniqueId, @Nullable String world) {
+        return new AccountKey(uniqueId, perWorldAccounts ? world : null);
+    }
+
+    private boolean isRepresentable(double amount) {
+        return MinorUnits.isRepresentable(amount, fractionalDigits);
+    }
+
+    private long toMinor(double amount) {
+        return MinorUnits.toMinor(amount, fractionalDigits);
+    }
+
+    private double toMajor(long minor) {
+        return MinorUnits.toMajor(minor, fractionalDigits);
+    }
+
+    private static EconomyResponse failure(double balance, String message) {
+        return new EconomyResponse(0, balance, EconomyResponse.ResponseType.FAILURE, message);
+    }
+
+    private static MinorEconomyResponse minorFailure(long balance, String message) {
+        return new MinorEconomyResponse(0, balance, EconomyResponse.ResponseType.FAILURE, message);
+    }
+
+    /**
+     * A balance in minor units, updated lock-free.
+     */
+    private static final class Balance extends AtomicLong {
+        /**
+         * Withdraws the amount if the current balance is at least {@code required}
+         *
+         * @return the new balance or {@link #INSUFFICIENT} if the balance is insufficient
+         */
+        private long withdraw(long amount, long required) {
+            while (true) {
+                long current = get();
+                if (current < required) return INSUFFICIENT;
+                long updated = current - amount;
+                if (compareAndSet(current, updated)) return updated;
+            }
+        }
+
+        /**
+         * Deposits the amount unless the balance would exceed the range of a {@code long}
+         *
+         * @return the new balance or {@link #OVERFLOW} if the balance would overflow
+         */
+        private long deposit(long amount) {
+            while (true) {
+                long current = get();
+                if (current > Long.MAX_VALUE - amount) return OVERFLOW;
+                long updated = current + amount;
+                if (compareAndSet(current, updated)) return updated;
+            }
+        }
+    }
+
+    private static final class Bank {
+        private final Balance balance = new Balance();
+    }
+
+    private final class BoundAccount implements Account {
+        private final OfflinePlayer player;
+        private final @Nullable String world;
+        private final AccountKey key;
+        private final Balance balance;
+
+        private BoundAccount(OfflinePlayer player, @Nullable String world, AccountKey key, Balance balance) {
+            this.player = player;
+            this.world = world;
+            this.key = key;
+            this.balance = balance;
+        }
+
+        @Override
+        public OfflinePlayer getPlayer() {
+            return player;
+        }
+
+        @Override
+        public @Nullable String getWorld() {
+            return world;
+        }
+
+        @Override
+        public double balance() {
+            return toMajor(balance.get());
+        }
+
+        @Override
+        public boolean has(double amount) {
+            return isRepresentable(amount) && balance.get() >= toMinor(amount);
+        }
+
+        @Override
+        public EconomyResponse withdraw(double amount) {
+            if (amount < 0) return failure(0, "Cannot withdraw negative funds");
+            if (!isRepresentable(amount)) return failure(0, "Invalid amount");
+            long minor = toMinor(amount);
+            long result = balance.withdraw(minor, minor);
+            if (result == INSUFFICIENT) return failure(toMajor(balance.get()), "Insufficient funds");
+            balanceChanged(key.uniqueId(), key.world(), toMajor(result));
+            return new EconomyResponse(amount, toMajor(result), EconomyResponse.ResponseType.SUCCESS, null);
+        }
+
+        @Override
+        public EconomyResponse deposit(double amount) {
+            if (amount < 0) return failure(0, "Cannot deposit negative funds");
+            if (!isRepresentable(amount)) return failure(0, "Invalid amount");
+            long result = balance.deposit(toMinor(amount));
+            if (result == OVERFLOW) return failure(toMajor(balance.get()), "Balance limit exceeded");
+            balanceChanged(key.uniqueId(), key.world(), toMajor(result));
+            return new EconomyResponse(amount, toMajor(result), EconomyResponse.ResponseType.SUCCESS, null);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package net.milkbowl.vault.economy;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Counterpart of {@link EconomyResponse} for operations using fixed-point amounts in {@link MinorUnits minor units}.
+ */
+public class MinorEconomyResponse {
+    /**
+     * Shared response for operations the economy does not implement
+     */
+    public static final MinorEconomyResponse NOT_IMPLEMENTED = new MinorEconomyResponse(0, 0, EconomyResponse.ResponseType.NOT_IMPLEMENTED, null);
+
+    /**
+     * Amount modified by calling method, in minor units
+     */
+    public final long amount;
+    /**
+     * New balance of account, in minor units
+     */
+    public final long balance;
+    /**
+     * Success or failure of call. Using Enum of ResponseType to determine valid
+     * outcomes
+     */
+    public final EconomyResponse.ResponseType type;
+    /**
+     * Error message if the variable 'type' is {@link EconomyResponse.ResponseType#FAILURE}
+     */
+    public final @Nullable String errorMessage;
+
+    /**
+     * Constructor for MinorEconomyResponse
+     *
+     * @param amount       Amount modified during operation, in minor units
+     * @param balance      New balance of account, in minor units
+     * @param type         Success or failure type of the operation
+     * @param errorMessage Error message if necessary (commonly null)
+     */
+    public MinorEconomyResponse(long amount, long balance, EconomyResponse.ResponseType type, @Nullable String errorMessage) {
+        this.amount = amount;
+        this.balance = balance;
+        this.type = type;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Checks if an operation was successful
+     *
+     * @return Value
+     */
+    public boolean transactionSuccess() {
+        return type == EconomyResponse.ResponseType.SUCCESS;
+    }
+}
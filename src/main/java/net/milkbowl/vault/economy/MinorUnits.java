@@ -0,0 +1,74 @@
+package net.milkbowl.vault.economy;
+
+/**
+ * Conversions between decimal amounts and fixed-point minor units.
+ * <p>
+ * An amount in minor units is the decimal amount scaled by {@code 10^digits}, where {@code digits} is the
+ * number of {@link Economy#fractionalDigits() fractional digits} the economy keeps,
+ * e.g. {@code 12.34} equals {@code 1234} minor units for an economy keeping two digits.
+ * Economies reporting {@code -1} fractional digits do not round amounts and therefore have no minor units,
+ * converting their amounts throws an {@link IllegalArgumentException}.
+ */
+public final class MinorUnits {
+    private static final double LIMIT = 0x1p63;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private MinorUnits() {
+    }
+
+    /**
+     * Gets the factor between decimal amounts and minor units
+     *
+     * @param digits the number of fractional digits kept
+     * @return {@code 10^digits}
+     * @throws IllegalArgumentException if the digits are negative or exceed the range of a {@code long}
+     */
+    public static long scale(int digits) {
+        if (digits < 0) throw new IllegalArgumentException("No minor units without rounding: " + digits);
+        if (digits >= POWERS_OF_TEN.length) throw new IllegalArgumentException("Too many fractional digits: " + digits);
+        return POWERS_OF_TEN[digits];
+    }
+
+    /**
+     * Checks if a decimal amount can be converted into minor units
+     *
+     * @param amount the decimal amount
+     * @param digits the number of fractional digits kept
+     * @return true if the amount is finite and fits into a {@code long} once scaled
+     * @throws IllegalArgumentException if the digits are negative or exceed the range of a {@code long}
+     */
+    public static boolean isRepresentable(double amount, int digits) {
+        return Math.abs(amount * scale(digits)) < LIMIT;
+    }
+
+    /**
+     * Converts a decimal amount into minor units, rounding the scaled amount half-even to a whole number
+     *
+     * @param amount the decimal amount
+     * @param digits the number of fractional digits kept
+     * @return the amount in minor units
+     * @throws ArithmeticException      if the amount is not {@link #isRepresentable(double, int) representable}
+     * @throws IllegalArgumentException if the digits are negative or exceed the range of a {@code long}
+     */
+    public static long toMinor(double amount, int digits) {
+        double scaled = amount * scale(digits);
+        if (!(Math.abs(scaled) < LIMIT)) throw new ArithmeticException("Amount out of range: " + amount);
+        return (long) Math.rint(scaled);
+    }
+
+    /**
+     * Converts an amount in minor units into a decimal amount
+     *
+     * @param minor  the amount in minor units
+     * @param digits the number of fractional digits kept
+     * @return the decimal amount
+     * @throws IllegalArgumentException if the digits are negative or exceed the range of a {@code long}
+     */
+    public static double toMajor(long minor, int digits) {
+        return (double) minor / scale(digits);
+    }
+}
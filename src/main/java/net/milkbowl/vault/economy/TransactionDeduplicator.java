@@ -0,0 +1,132 @@
+package net.milkbowl.vault.economy;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the responses of recent transactions by their caller-supplied id,
+ * so a retried transaction returns the original response instead of being applied again.
+ * <p>
+ * Transaction ids are remembered for the length of the deduplication window, but at most
+ * the configured number of ids is kept, evicting the oldest ones first.
+ * A replay arriving while the original transaction is still running waits for its response.
+ * Transactions that throw an exception are forgotten, so they can be retried.
+ *
+ * @see Economy#depositPlayer(org.bukkit.OfflinePlayer, String, double, UUID)
+ * @see Economy#withdrawPlayer(org.bukkit.OfflinePlayer, String, double, UUID)
+ */
+public final class TransactionDeduplicator {
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> order = new ConcurrentLinkedQueue<>();
+    private final long windowNanos;
+    private final int maximumSize;
+
+    /**
+     * Constructor for TransactionDeduplicator
+     *
+     * @param window      how long a transaction id is remembered
+     * @param maximumSize the maximum number of remembered transaction ids
+     */
+    public TransactionDeduplicator(Duration window, int maximumSize) {
+        if (window.isNegative() || window.isZero()) throw new IllegalArgumentException("Window must be positive: " + window);
+        if (maximumSize <= 0) throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        this.windowNanos = window.toNanos();
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Applies the transaction unless a transaction with the same id was applied within the window
+     *
+     * @param transactionId the caller-supplied id of the transaction
+     * @param transaction   the transaction to apply
+     * @return the response of the transaction, or the original response if the id was seen before
+     */
+    public EconomyResponse apply(UUID transactionId, Supplier<EconomyResponse> transaction) {
+        while (true) {
+            long now = System.nanoTime();
+            Entry created = new Entry(transactionId, now);
+            Entry entry = entries.putIfAbsent(transactionId, created);
+            if (entry != null && !entry.isExpired(now, windowNanos)) {
+                try {
+                    return entry.response.join();
+                } catch (CompletionException e) {
+                    continue;
+                }
+            }
+            if (entry != null && !entries.replace(transactionId, entry, created)) continue;
+
+            order.add(created);
+            evict(now);
+            try {
+                EconomyResponse response = transaction.get();
+                created.response.complete(response);
+                return response;
+            } catch (RuntimeException e) {
+                entries.remove(transactionId, created);
+                created.response.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Gets the response of a remembered transaction
+     *
+     * @param transactionId the id of the transaction
+     * @return the response or {@code null} if the transaction is unknown, expired or still running
+     */
+    public @Nullable EconomyResponse get(UUID transactionId) {
+        Entry entry = entries.get(transactionId);
+        if (entry == null || entry.isExpired(System.nanoTime(), windowNanos)) return null;
+        CompletableFuture<EconomyResponse> response = entry.response;
+        return response.isDone() && !response.isCompletedExceptionally() ? response.join() : null;
+    }
+
+    /**
+     * Gets the number of remembered transaction ids, including expired ones not yet evicted
+     *
+     * @return the number of remembered transaction ids
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Forgets all remembered transaction ids
+     */
+    public void clear() {
+        entries.clear();
+        order.clear();
+    }
+
+    private void evict(long now) {
+        Entry oldest;
+        while ((oldest = order.peek()) != null && (oldest.isExpired(now, windowNanos) || entries.size() > maximumSize)) {
+            if (order.remove(oldest)) entries.remove(oldest.transactionId, oldest);
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<EconomyResponse> response = new CompletableFuture<>();
+        private final UUID transactionId;
+        private final long created;
+
+        private Entry(UUID transactionId, long created) {
+            this.transactionId = transactionId;
+            this.created = created;
+        }
+
+        private boolean isExpired(long now, long windowNanos) {
+            return now - created > windowNanos;
+        }
+    }
+}
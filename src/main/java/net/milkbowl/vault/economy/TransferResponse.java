@@ -0,0 +1,31 @@
+package net.milkbowl.vault.economy;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Indicates the Return of a player-to-player transfer.
+ * In addition to the fields of {@link EconomyResponse}, which describe the sending account,
+ * it carries the new balance of the receiving account.
+ *
+ * @see Economy#transfer(org.bukkit.OfflinePlayer, org.bukkit.OfflinePlayer, String, double)
+ */
+public class TransferResponse extends EconomyResponse {
+    /**
+     * New balance of the receiving account
+     */
+    public final double recipientBalance;
+
+    /**
+     * Constructor for TransferResponse
+     *
+     * @param amount           Amount transferred during operation
+     * @param balance          New balance of the sending account
+     * @param recipientBalance New balance of the receiving account
+     * @param type             Success or failure type of the operation
+     * @param errorMessage     Error message if necessary (commonly null)
+     */
+    public TransferResponse(double amount, double balance, double recipientBalance, ResponseType type, @Nullable String errorMessage) {
+        super(amount, balance, type, errorMessage);
+        this.recipientBalance = recipientBalance;
+    }
+}
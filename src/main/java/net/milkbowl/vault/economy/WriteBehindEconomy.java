@@ -0,0 +1,428 @@
+package net.milkbowl.vault.economy;
+
+import net.milkbowl.vault.WorldContext;
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleUnaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link Economy} decorator coalescing high-frequency player deposits in memory.
+ * <p>
+ * Deposits to a player account are applied to an in-memory balance immediately and the pending amounts
+ * are summed up per account. They are written to the backing economy as a single deposit per account,
+ * either periodically, once the number of buffered deposits reaches a threshold, or when {@link #flush()} is called.
+ * The {@link EconomyResponse} of a buffered deposit reflects the in-memory balance.
+ * <p>
+ * All other operations on an account with pending deposits first write them to the backing economy,
+ * so withdrawals and transfers always see the full balance.
+ * Buffered deposits are lost if the server stops without calling {@link #close()},
+ * use a {@link DurabilityHook} to persist them elsewhere in the meantime.
+ * <p>
+ * Deposits the backing economy keeps rejecting are given up after a number of flush attempts
+ * and reported to {@link DurabilityHook#failed(OfflinePlayer, String, double, String)}.
+ * <p>
+ * This economy does not implement {@link AsyncEconomy}, since asynchronous deposits and withdrawals
+ * on the backing economy would not see the pending deposits.
+ */
+public class WriteBehindEconomy extends ForwardingEconomy implements AutoCloseable {
+    private static final Logger log = Logger.getLogger("Minecraft");
+    private static final int DEFAULT_MAX_FLUSH_ATTEMPTS = 5;
+
+    private final Map<AccountKey, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+    private final ScheduledFuture<?> task;
+    private final DurabilityHook hook;
+    private final int flushThreshold;
+    private final int maxFlushAttempts;
+
+    /**
+     * Constructor for WriteBehindEconomy
+     *
+     * @param delegate         the economy to write deposits to
+     * @param scheduler        the executor flushes are performed on
+     * @param flushInterval    the delay between periodic flushes
+     * @param flushThreshold   the number of buffered deposits triggering an early flush
+     * @param maxFlushAttempts the number of failed flushes after which the deposits of an account are given up
+     * @param hook             notified about buffered, flushed and failed deposits
+     */
+    public WriteBehindEconomy(Economy delegate, ScheduledExecutorService scheduler, Duration flushInterval,
+                              int flushThreshold, int maxFlushAttempts, DurabilityHook hook) {
+        super(delegate);
+        if (flushThreshold <= 0) throw new IllegalArgumentException("Flush threshold must be positive: " + flushThreshold);
+        if (maxFlushAttempts <= 0)
+            throw new IllegalArgumentException("Flush attempts must be positive: " + maxFlushAttempts);
+        this.scheduler = scheduler;
+        this.flushThreshold = flushThreshold;
+        this.maxFlushAttempts = maxFlushAttempts;
+        this.hook = hook;
+        long interval = flushInterval.toNanos();
+        this.task = scheduler.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Constructor for WriteBehindEconomy giving up deposits after 5 failed flushes
+     *
+     * @param delegate       the economy to write deposits to
+     * @param scheduler      the executor flushes are performed on
+     * @param flushInterval  the delay between periodic flushes
+     * @param flushThreshold the number of buffered deposits triggering an early flush
+     * @param hook           notified about buffered, flushed and failed deposits
+     */
+    public WriteBehindEconomy(Economy delegate, ScheduledExecutorService scheduler, Duration flushInterval,
+                              int flushThreshold, DurabilityHook hook) {
+        this(delegate, scheduler, flushInterval, flushThreshold, DEFAULT_MAX_FLUSH_ATTEMPTS, hook);
+    }
+
+    /**
+     * Constructor for WriteBehindEconomy without a durability hook
+     *
+     * @param delegate       the economy to write deposits to
+     * @param scheduler      the executor flushes are performed on
+     * @param flushInterval  the delay between periodic flushes
+     * @param flushThreshold the number of buffered deposits triggering an early flush
+     */
+    public WriteBehindEconomy(Economy delegate, ScheduledExecutorService scheduler, Duration flushInterval, int flushThreshold) {
+        this(delegate, scheduler, flushInterval, flushThreshold, new DurabilityHook() {
+        });
+    }
+
+    /**
+     * Writes all pending deposits to the backing economy.
+     * Deposits the backing economy rejects remain pending and are retried with the next flush,
+     * until they are given up after the configured number of attempts.
+     */
+    public void flush() {
+        flushQueued.set(false);
+        pending.forEach(this::flush);
+    }
+
+    /**
+     * Gets the number of deposits buffered since they were last written to the backing economy
+     *
+     * @return the number of buffered deposits
+     */
+    public int getBufferedDeposits() {
+        return buffered.get();
+    }
+
+    /**
+     * Stops the periodic flushing and writes all pending deposits to the backing economy.
+     * This should be called when the server shuts down.
+     */
+    @Override
+    public void close() {
+        task.cancel(false);
+        flush();
+    }
+
+    @Override
+    public double getBalance(OfflinePlayer player) {
+        return balance(player, null);
+    }
+
+    @Override
+    public double getBalance(OfflinePlayer player, @Nullable String world) {
+        return balance(player, world);
+    }
+
+    @Override
+    public double getBalance(WorldContext world, OfflinePlayer player) {
+        return balance(player, world.getName());
+    }
+
+    @Override
+    public Balances getBalances(Collection<? extends OfflinePlayer> players, @Nullable String world) {
+        Balances balances = delegate.getBalances(players, world);
+        if (pending.isEmpty()) return balances;
+        Balances.Builder builder = Balances.builder(balances.size());
+        for (int i = 0; i < balances.size(); i++) {
+            Pending entry = pending.get(new AccountKey(balances.getUniqueId(i), world));
+            builder.add(balances.getUniqueId(i), balances.getBalance(i) + (entry != null ? entry.delta() : 0));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean has(OfflinePlayer player, double amount) {
+        if (!pending.containsKey(new AccountKey(player.getUniqueId(), null))) return delegate.has(player, amount);
+        return balance(player, null) >= amount;
+    }
+
+    @Override
+    public boolean has(OfflinePlayer player, @Nullable String worldName, double amount) {
+        if (!pending.containsKey(new AccountKey(player.getUniqueId(), worldName)))
+            return delegate.has(player, worldName, amount);
+        return balance(player, worldName) >= amount;
+    }
+
+    @Override
+    public boolean has(WorldContext world, OfflinePlayer player, double amount) {
+        if (!pending.containsKey(new AccountKey(player.getUniqueId(), world.getName())))
+            return delegate.has(world, player, amount);
+        return balance(player, world.getName()) >= amount;
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, double amount) {
+        flush(player, null);
+        return delegate.withdrawPlayer(player, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        flush(player, worldName);
+        return delegate.withdrawPlayer(player, worldName, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        flush(player, world.getName());
+        return delegate.withdrawPlayer(world, player, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        flush(player, worldName);
+        return delegate.withdrawPlayer(player, worldName, amount, transactionId);
+    }
+
+    @Override
+    public EconomyResponse withdrawIfAtLeast(OfflinePlayer player, @Nullable String worldName, double amount, double floor) {
+        flush(player, worldName);
+        return delegate.withdrawIfAtLeast(player, worldName, amount, floor);
+    }
+
+    @Override
+    public int withdrawIfPossible(OfflinePlayer player, @Nullable String worldName, double amount) {
+        flush(player, worldName);
+        return delegate.withdrawIfPossible(player, worldName, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, double amount) {
+        return buffer(player, null, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return buffer(player, worldName, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        return buffer(player, world.getName(), amount);
+    }
+
+    // deposits carrying a transaction id are not buffered, the backing economy has to deduplicate them
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        flush(player, worldName);
+        return delegate.depositPlayer(player, worldName, amount, transactionId);
+    }
+
+    @Override
+    public TransferResponse transfer(OfflinePlayer from, OfflinePlayer to, @Nullable String world, double amount) {
+        flush(from, world);
+        flush(to, world);
+        return delegate.transfer(from, to, world, amount);
+    }
+
+    @Override
+    public long getBalanceMinor(OfflinePlayer player) {
+        flush(player, null);
+        return delegate.getBalanceMinor(player);
+    }
+
+    @Override
+    public long getBalanceMinor(OfflinePlayer player, @Nullable String world) {
+        flush(player, world);
+        return delegate.getBalanceMinor(player, world);
+    }
+
+    @Override
+    public boolean hasMinor(OfflinePlayer player, long amount) {
+        flush(player, null);
+        return delegate.hasMinor(player, amount);
+    }
+
+    @Override
+    public boolean hasMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        flush(player, worldName);
+        return delegate.hasMinor(player, worldName, amount);
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, long amount) {
+        flush(player, null);
+        return delegate.withdrawPlayerMinor(player, amount);
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        flush(player, worldName);
+        return delegate.withdrawPlayerMinor(player, worldName, amount);
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, long amount) {
+        flush(player, null);
+        return delegate.depositPlayerMinor(player, amount);
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        flush(player, worldName);
+        return delegate.depositPlayerMinor(player, worldName, amount);
+    }
+
+    @Override
+    public BulkOperation applyToAll(DoubleUnaryOperator function, @Nullable String world) {
+        flush();
+        return delegate.applyToAll(function, world);
+    }
+
+    private EconomyResponse buffer(OfflinePlayer player, @Nullable String world, double amount) {
+        if (!Double.isFinite(amount)) return new EconomyResponse(0, balance(player, world),
+                EconomyResponse.ResponseType.FAILURE, "Invalid amount");
+        if (amount < 0) return new EconomyResponse(0, balance(player, world),
+                EconomyResponse.ResponseType.FAILURE, "Cannot deposit negative funds");
+        AccountKey key = new AccountKey(player.getUniqueId(), world);
+        double balance;
+        while (true) {
+            Pending entry = pending.computeIfAbsent(key, ignored -> new Pending(player));
+            synchronized (entry) {
+                if (entry.retired) continue;
+                if (Double.isNaN(entry.base)) {
+                    if (!(world == null ? delegate.hasAccount(player) : delegate.hasAccount(player, world))) {
+                        entry.retired = true;
+                        pending.remove(key, entry);
+                        return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "Account does not exist");
+                    }
+                    entry.base = world == null ? delegate.getBalance(player) : delegate.getBalance(player, world);
+                }
+                entry.delta += amount;
+                entry.deposits++;
+                balance = entry.base + entry.delta;
+                hook.buffered(player, world, amount);
+                break;
+            }
+        }
+        if (buffered.incrementAndGet() >= flushThreshold && flushQueued.compareAndSet(false, true))
+            scheduler.execute(this::flush);
+        return new EconomyResponse(amount, balance, EconomyResponse.ResponseType.SUCCESS, null);
+    }
+
+    private double balance(OfflinePlayer player, @Nullable String world) {
+        Pending entry = pending.get(new AccountKey(player.getUniqueId(), world));
+        if (entry != null) synchronized (entry) {
+            if (!entry.retired && !Double.isNaN(entry.base)) return entry.base + entry.delta;
+        }
+        return world == null ? delegate.getBalance(player) : delegate.getBalance(player, world);
+    }
+
+    private void flush(OfflinePlayer player, @Nullable String world) {
+        AccountKey key = new AccountKey(player.getUniqueId(), world);
+        Pending entry = pending.get(key);
+        if (entry != null) flush(key, entry);
+    }
+
+    private void flush(AccountKey key, Pending entry) {
+        synchronized (entry) {
+            if (entry.retired) return;
+            if (entry.delta != 0) {
+                double amount = entry.delta;
+                try {
+                    EconomyResponse response = key.world() == null
+                            ? delegate.depositPlayer(entry.player, amount)
+                            : delegate.depositPlayer(entry.player, key.world(), amount);
+                    hook.flushed(entry.player, key.world(), amount, response);
+                    if (!response.transactionSuccess()) {
+                        if (++entry.attempts < maxFlushAttempts) return;
+                        log.warning(String.format("[%s] Giving up deposit of %s to %s after %d attempts: %s",
+                                delegate.getName(), amount, key.uniqueId(), entry.attempts, response.errorMessage));
+                        hook.failed(entry.player, key.world(), amount, response.errorMessage);
+                    }
+                } catch (RuntimeException e) {
+                    if (++entry.attempts < maxFlushAttempts) return;
+                    log.log(Level.WARNING, String.format("[%s] Giving up deposit of %s to %s after %d attempts",
+                            delegate.getName(), amount, key.uniqueId(), entry.attempts), e);
+                    hook.failed(entry.player, key.world(), amount, e.toString());
+                }
+                buffered.addAndGet(-entry.deposits);
+            }
+            entry.retired = true;
+            pending.remove(key, entry);
+        }
+    }
+
+    /**
+     * Hook notified about buffered deposits, e.g. to record them in a durable log until they are flushed.
+     * All methods are called while holding the lock of the affected account.
+     */
+    public interface DurabilityHook {
+        /**
+         * Called when a deposit was buffered in memory
+         *
+         * @param player the account holder
+         * @param world  name of the world
+         * @param amount the amount deposited
+         */
+        default void buffered(OfflinePlayer player, @Nullable String world, double amount) {
+        }
+
+        /**
+         * Called after the coalesced deposits of an account were written to the backing economy
+         *
+         * @param player   the account holder
+         * @param world    name of the world
+         * @param amount   the coalesced amount that was deposited
+         * @param response the response of the backing economy
+         */
+        default void flushed(OfflinePlayer player, @Nullable String world, double amount, EconomyResponse response) {
+        }
+
+        /**
+         * Called when the coalesced deposits of an account could not be written to the backing economy
+         * within the configured number of attempts and were given up
+         *
+         * @param player the account holder
+         * @param world  name of the world
+         * @param amount the coalesced amount that was not deposited
+         * @param reason the error message of the last attempt
+         */
+        default void failed(OfflinePlayer player, @Nullable String world, double amount, @Nullable String reason) {
+        }
+    }
+
+    private static final class Pending {
+        private final OfflinePlayer player;
+        private double base = Double.NaN;
+        private double delta;
+        private int deposits;
+        private int attempts;
+        private boolean retired;
+
+        private Pending(OfflinePlayer player) {
+            this.player = player;
+        }
+
+        private synchronized double delta() {
+            return retired ? 0 : delta;
+        }
+    }
+}
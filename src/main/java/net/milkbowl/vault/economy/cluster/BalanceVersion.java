@@ -0,0 +1,79 @@
+package net.milkbowl.vault.economy.cluster;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * A per-account version bump, published by a server after it changed the balance of an account.
+ * <p>
+ * Encoded as {@value #HEADER_SIZE} bytes followed by the UTF-8 bytes of the world name, if any.
+ *
+ * @param node     the id of the publishing server
+ * @param uniqueId the unique id of the account holder
+ * @param world    the name of the world or {@code null} for the global account
+ * @param version  the version of the account after the change
+ * @param balance  the balance after the change or {@link Double#NaN} if unknown
+ */
+public record BalanceVersion(long node, UUID uniqueId, @Nullable String world, long version, double balance) {
+    /**
+     * The size of an encoded message without the world name in bytes
+     */
+    public static final int HEADER_SIZE = 44;
+    private static final byte FORMAT = 1;
+
+    /**
+     * Encodes this version into a message
+     *
+     * @return the encoded message
+     * @throws IllegalArgumentException if the world name exceeds 32767 bytes of UTF-8
+     */
+    public byte[] encode() {
+        byte[] name = world != null ? world.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (name.length > Short.MAX_VALUE) throw new IllegalArgumentException("World name too long: " + world);
+        return ByteBuffer.allocate(HEADER_SIZE + name.length)
+                .put(FORMAT)
+                .put((byte) 0)
+                .putShort(world != null ? (short) name.length : -1)
+                .putLong(node)
+                .putLong(uniqueId.getMostSignificantBits())
+                .putLong(uniqueId.getLeastSignificantBits())
+                .putLong(version)
+                .putDouble(balance)
+                .put(name)
+                .array();
+    }
+
+    /**
+     * Decodes a message
+     *
+     * @param message the encoded message
+     * @return the decoded version
+     * @throws IllegalArgumentException if the message is malformed or of an unknown format
+     */
+    public static BalanceVersion decode(byte[] message) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(message);
+            byte format = buffer.get();
+            if (format != FORMAT) throw new IllegalArgumentException("Unknown message format: " + format);
+            buffer.get();
+            short length = buffer.getShort();
+            long node = buffer.getLong();
+            UUID uniqueId = new UUID(buffer.getLong(), buffer.getLong());
+            long version = buffer.getLong();
+            double balance = buffer.getDouble();
+            String world = null;
+            if (length >= 0) {
+                byte[] name = new byte[length];
+                buffer.get(name);
+                world = new String(name, StandardCharsets.UTF_8);
+            }
+            return new BalanceVersion(node, uniqueId, world, version, balance);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated message of " + message.length + " bytes", e);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package net.milkbowl.vault.economy.cluster;
+
+import net.milkbowl.vault.WorldContext;
+import net.milkbowl.vault.economy.CachingEconomy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import net.milkbowl.vault.economy.ForwardingEconomy;
+import net.milkbowl.vault.economy.MinorEconomyResponse;
+import net.milkbowl.vault.economy.TransferResponse;
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link CachingEconomy} kept coherent across all servers sharing the same economy database.
+ * <p>
+ * After every successful withdrawal, deposit and transfer made through the {@link OfflinePlayer} methods,
+ * the new balance is published to all peers as a {@link BalanceVersion version bump} of the account.
+ * Peers adopt the balance if its version is newer than any version they know of the account,
+ * otherwise the changes raced and they discard their cached balance, so the next read goes to the database.
+ * Changes whose resulting balance is unknown, like those made in minor units, only discard cached balances.
+ * <p>
+ * Messages lost by the transport leave peers with their cached balance until it expires,
+ * so the expiry of the cache bounds how long a balance can be stale.
+ */
+public class ClusterCachingEconomy extends ForwardingEconomy implements AutoCloseable {
+    private static final Logger log = Logger.getLogger("Minecraft");
+
+    private final Map<Account, Long> versions = new ConcurrentHashMap<>();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final long node = ThreadLocalRandom.current().nextLong();
+    private final CachingEconomy cache;
+    private final InvalidationTransport transport;
+    private final int maximumVersions;
+
+    /**
+     * Constructor for ClusterCachingEconomy, remembering the versions of up to 100,000 accounts
+     *
+     * @param cache     the cache to keep coherent
+     * @param transport the transport connecting this server to its peers
+     */
+    public ClusterCachingEconomy(CachingEconomy cache, InvalidationTransport transport) {
+        this(cache, transport, 100_000);
+    }
+
+    /**
+     * Constructor for ClusterCachingEconomy
+     *
+     * @param cache           the cache to keep coherent
+     * @param transport       the transport connecting this server to its peers
+     * @param maximumVersions the maximum number of accounts to remember the version of
+     */
+    public ClusterCachingEconomy(CachingEconomy cache, InvalidationTransport transport, int maximumVersions) {
+        super(cache);
+        if (maximumVersions <= 0) throw new IllegalArgumentException("Maximum versions must be positive: " + maximumVersions);
+        this.cache = cache;
+        this.transport = transport;
+        this.maximumVersions = maximumVersions;
+        transport.subscribe(this::receive);
+    }
+
+    /**
+     * Gets the number of version bumps published to peers
+     *
+     * @return the number of published messages
+     */
+    public long publishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * Gets the number of version bumps received from peers
+     *
+     * @return the number of received messages
+     */
+    public long receivedCount() {
+        return received.sum();
+    }
+
+    /**
+     * Gets the number of received version bumps that were not newer than the known version of the account,
+     * each of which discarded the cached balance
+     *
+     * @return the number of conflicting messages
+     */
+    public long conflictCount() {
+        return conflicts.sum();
+    }
+
+    /**
+     * Closes the transport, the cache keeps working without coherence
+     */
+    @Override
+    public void close() {
+        transport.close();
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, double amount) {
+        return publish(player, null, delegate.withdrawPlayer(player, amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return publish(player, worldName, delegate.withdrawPlayer(player, worldName, amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        return publish(player, world.getName(), delegate.withdrawPlayer(world, player, amount));
+    }
+
+    // a replayed transaction returns the original, possibly outdated balance, which must not be propagated
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        EconomyResponse response = delegate.withdrawPlayer(player, worldName, amount, transactionId);
+        if (response.transactionSuccess()) publish(player.getUniqueId(), worldName, Double.NaN);
+        return response;
+    }
+
+    @Override
+    public EconomyResponse withdrawIfAtLeast(OfflinePlayer player, @Nullable String worldName, double amount, double floor) {
+        return publish(player, worldName, delegate.withdrawIfAtLeast(player, worldName, amount, floor));
+    }
+
+    @Override
+    public int withdrawIfPossible(OfflinePlayer player, @Nullable String worldName, double amount) {
+        int type = delegate.withdrawIfPossible(player, worldName, amount);
+        if (type == EconomyResponse.ResponseType.SUCCESS.getId()) publish(player.getUniqueId(), worldName, Double.NaN);
+        return type;
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, double amount) {
+        return publish(player, null, delegate.depositPlayer(player, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return publish(player, worldName, delegate.depositPlayer(player, worldName, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        return publish(player, world.getName(), delegate.depositPlayer(world, player, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        EconomyResponse response = delegate.depositPlayer(player, worldName, amount, transactionId);
+        if (response.transactionSuccess()) publish(player.getUniqueId(), worldName, Double.NaN);
+        return response;
+    }
+
+    @Override
+    public TransferResponse transfer(OfflinePlayer from, OfflinePlayer to, @Nullable String world, double amount) {
+        TransferResponse response = delegate.transfer(from, to, world, amount);
+        if (!response.transactionSuccess()) return response;
+        publish(from.getUniqueId(), world, response.balance);
+        publish(to.getUniqueId(), world, response.recipientBalance);
+        return response;
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, long amount) {
+        return publish(player, null, delegate.withdrawPlayerMinor(player, amount));
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        return publish(player, worldName, delegate.withdrawPlayerMinor(player, worldName, amount));
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, long amount) {
+        return publish(player, null, delegate.depositPlayerMinor(player, amount));
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        return publish(player, worldName, delegate.depositPlayerMinor(player, worldName, amount));
+    }
+
+    private EconomyResponse publish(OfflinePlayer player, @Nullable String world, EconomyResponse response) {
+        if (response.transactionSuccess()) publish(player.getUniqueId(), world, response.balance);
+        return response;
+    }
+
+    private MinorEconomyResponse publish(OfflinePlayer player, @Nullable String world, MinorEconomyResponse response) {
+        if (response.transactionSuccess()) publish(player.getUniqueId(), world, Double.NaN);
+        return response;
+    }
+
+    private void publish(UUID uniqueId, @Nullable String world, double balance) {
+        Account account = new Account(uniqueId, world);
+        Long version = versions.merge(account, 1L, Long::sum);
+        if (version == 1) ensureCapacity();
+        try {
+            transport.publish(new BalanceVersion(node, uniqueId, world, version, balance).encode());
+            published.increment();
+        } catch (RuntimeException e) {
+            log.log(Level.SEVERE, "Failed to publish balance version of " + uniqueId, e);
+        }
+    }
+
+    private void receive(byte[] message) {
+        BalanceVersion change;
+        try {
+            change = BalanceVersion.decode(message);
+        } catch (IllegalArgumentException e) {
+            log.log(Level.WARNING, "Discarding malformed balance version", e);
+            return;
+        }
+        if (change.node() == node) return;
+        received.increment();
+        Account account = new Account(change.uniqueId(), change.world());
+        // the cache is updated while holding the version, so concurrent messages apply in version order
+        Long known = versions.compute(account, (ignored, version) -> {
+            if (version != null && version >= change.version()) {
+                conflicts.increment();
+                cache.invalidate(change.uniqueId(), change.world());
+                return version;
+            }
+            if (Double.isNaN(change.balance())) cache.invalidate(change.uniqueId(), change.world());
+            else cache.put(change.uniqueId(), change.world(), change.balance());
+            return change.version();
+        });
+        if (known == change.version()) ensureCapacity();
+    }
+
+    // a forgotten version lets the next message of the account win, at worst caching an outdated balance until it expires
+    private void ensureCapacity() {
+        if (versions.size() <= maximumVersions) return;
+        Iterator<Long> iterator = versions.values().iterator();
+        while (versions.size() > maximumVersions && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Account(UUID uniqueId, @Nullable String world) {
+    }
+}
@@ -0,0 +1,35 @@
+package net.milkbowl.vault.economy.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries {@link BalanceVersion balance versions} between the servers sharing an economy database.
+ * <p>
+ * Implementations may use any broadcast channel, such as a message broker or the proxy connection.
+ * Delivery is best effort: peers missing a message keep serving their cached balance until it expires.
+ * Messages published by a server may be delivered back to itself, receivers ignore their own messages.
+ *
+ * @see ClusterCachingEconomy
+ * @see LoopbackTransport
+ */
+public interface InvalidationTransport extends AutoCloseable {
+    /**
+     * Sends a message to all peers, this must not block on the network
+     *
+     * @param message the encoded message
+     */
+    void publish(byte[] message);
+
+    /**
+     * Registers a receiver for the messages published by peers
+     *
+     * @param receiver called with every received message, possibly concurrently
+     */
+    void subscribe(Consumer<byte[]> receiver);
+
+    /**
+     * Stops sending and receiving messages
+     */
+    @Override
+    void close();
+}
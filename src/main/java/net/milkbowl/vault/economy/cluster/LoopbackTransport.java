@@ -0,0 +1,62 @@
+package net.milkbowl.vault.economy.cluster;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * An {@link InvalidationTransport} connecting economies within the same process,
+ * delivering every message synchronously to all other transports of the same {@link Network}.
+ * <p>
+ * Meant as a stand-in for a real transport when testing multi-server setups:
+ * <pre>{@code
+ * LoopbackTransport.Network network = new LoopbackTransport.Network();
+ * Economy first = new ClusterCachingEconomy(new CachingEconomy(database, expiry, size), network.connect());
+ * Economy second = new ClusterCachingEconomy(new CachingEconomy(database, expiry, size), network.connect());
+ * }</pre>
+ */
+public final class LoopbackTransport implements InvalidationTransport {
+    private final List<Consumer<byte[]>> receivers = new CopyOnWriteArrayList<>();
+    private final Network network;
+
+    private LoopbackTransport(Network network) {
+        this.network = network;
+    }
+
+    @Override
+    public void publish(byte[] message) {
+        for (LoopbackTransport transport : network.transports) {
+            if (transport == this) continue;
+            for (Consumer<byte[]> receiver : transport.receivers) receiver.accept(message.clone());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<byte[]> receiver) {
+        receivers.add(receiver);
+    }
+
+    @Override
+    public void close() {
+        network.transports.remove(this);
+        receivers.clear();
+    }
+
+    /**
+     * A set of connected loopback transports
+     */
+    public static final class Network {
+        private final List<LoopbackTransport> transports = new CopyOnWriteArrayList<>();
+
+        /**
+         * Creates a transport connected to all other transports of this network
+         *
+         * @return the new transport
+         */
+        public LoopbackTransport connect() {
+            LoopbackTransport transport = new LoopbackTransport(this);
+            transports.add(transport);
+            return transport;
+        }
+    }
+}
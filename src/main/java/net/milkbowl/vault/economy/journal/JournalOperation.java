@@ -0,0 +1,59 @@
+package net.milkbowl.vault.economy.journal;
+
+/**
+ * The kind of mutation described by a {@link JournalRecord}.
+ */
+public enum JournalOperation {
+    /**
+     * Withdrawal from a player account, the record name is the world
+     */
+    WITHDRAW(1),
+    /**
+     * Deposit to a player account, the record name is the world
+     */
+    DEPOSIT(2),
+    /**
+     * Creation of a bank account, the record name is the bank and the unique id its owner
+     */
+    BANK_CREATE(3),
+    /**
+     * Deletion of a bank account, the record name is the bank
+     */
+    BANK_DELETE(4),
+    /**
+     * Withdrawal from a bank account, the record name is the bank
+     */
+    BANK_WITHDRAW(5),
+    /**
+     * Deposit to a bank account, the record name is the bank
+     */
+    BANK_DEPOSIT(6);
+
+    private final int id;
+
+    JournalOperation(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the numeric id this operation is encoded with
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the operation with the given numeric id
+     *
+     * @param id of the operation
+     * @return the operation
+     * @throws IllegalArgumentException if no operation has the given id
+     */
+    public static JournalOperation byId(int id) {
+        JournalOperation[] values = values();
+        if (id < 1 || id > values.length) throw new IllegalArgumentException("Unknown journal operation id: " + id);
+        return values[id - 1];
+    }
+}
@@ -0,0 +1,27 @@
+package net.milkbowl.vault.economy.journal;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * A single mutation recorded in a {@link TransactionJournal}.
+ *
+ * @param sequence  the sequence number of the record, starting at 1
+ * @param timestamp the time the record was appended, in milliseconds since the epoch
+ * @param operation the kind of mutation
+ * @param uniqueId  the player involved, or {@code null} for bank operations without a player
+ * @param amount    the amount of the mutation
+ * @param balance   the balance after the mutation or {@link Double#NaN} if unknown
+ * @param name      the world of player operations or the name of the bank of bank operations
+ */
+public record JournalRecord(
+        long sequence,
+        long timestamp,
+        JournalOperation operation,
+        @Nullable UUID uniqueId,
+        double amount,
+        double balance,
+        @Nullable String name
+) {
+}
@@ -0,0 +1,276 @@
+package net.milkbowl.vault.economy.journal;
+
+import net.milkbowl.vault.WorldContext;
+import net.milkbowl.vault.economy.BulkOperation;
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import net.milkbowl.vault.economy.ForwardingEconomy;
+import net.milkbowl.vault.economy.MinorEconomyResponse;
+import net.milkbowl.vault.economy.MinorUnits;
+import net.milkbowl.vault.economy.TransactionDeduplicator;
+import net.milkbowl.vault.economy.TransferResponse;
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link Economy} decorator recording every successful mutation in a {@link TransactionJournal}.
+ * <p>
+ * Player withdrawals, deposits and transfers made through the {@link OfflinePlayer} methods, {@link #applyToAll bulk updates}
+ * as well as bank creations, deletions, withdrawals and deposits are recorded after the backing economy reports success.
+ * Mutations made through the deprecated name-based methods are forwarded without being recorded.
+ * <p>
+ * If a mutation cannot be recorded, it is reverted through the backing economy and reported as a failure.
+ * Bank deletions cannot be reverted and are only forwarded once room for their record was
+ * {@link TransactionJournal#reserve(int) reserved}, the two records of a transfer are appended together.
+ * Transactions carrying a transaction id are recorded once, replays within the deduplication window are not recorded again.
+ */
+public class JournalingEconomy extends ForwardingEconomy {
+    private static final Logger log = Logger.getLogger("Minecraft");
+    private static final String JOURNAL_FAILURE = "Failed to journal transaction";
+
+    private final TransactionJournal journal;
+    private final TransactionDeduplicator deduplicator;
+
+    /**
+     * Constructor for JournalingEconomy
+     *
+     * @param delegate     the economy to record mutations of
+     * @param journal      the journal to append records to
+     * @param deduplicator remembering the responses of transactions carrying a transaction id
+     */
+    public JournalingEconomy(Economy delegate, TransactionJournal journal, TransactionDeduplicator deduplicator) {
+        super(delegate);
+        this.journal = journal;
+        this.deduplicator = deduplicator;
+    }
+
+    /**
+     * Constructor for JournalingEconomy deduplicating transactions within a window of five minutes
+     * holding up to 100,000 transaction ids
+     *
+     * @param delegate the economy to record mutations of
+     * @param journal  the journal to append records to
+     */
+    public JournalingEconomy(Economy delegate, TransactionJournal journal) {
+        this(delegate, journal, new TransactionDeduplicator(Duration.ofMinutes(5), 100_000));
+    }
+
+    /**
+     * Gets the journal mutations are recorded in
+     *
+     * @return the journal
+     */
+    public TransactionJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Gets the deduplicator remembering the responses of transactions carrying a transaction id.
+     *
+     * @return the transaction deduplicator
+     */
+    public TransactionDeduplicator getTransactionDeduplicator() {
+        return deduplicator;
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, double amount) {
+        return record(JournalOperation.WITHDRAW, player.getUniqueId(), null, delegate.withdrawPlayer(player, amount),
+                response -> delegate.depositPlayer(player, response.amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return record(JournalOperation.WITHDRAW, player.getUniqueId(), worldName, delegate.withdrawPlayer(player, worldName, amount),
+                response -> delegate.depositPlayer(player, worldName, response.amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        return record(JournalOperation.WITHDRAW, player.getUniqueId(), world.getName(), delegate.withdrawPlayer(world, player, amount),
+                response -> delegate.depositPlayer(world, player, response.amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        return deduplicator.apply(transactionId, () -> record(JournalOperation.WITHDRAW, player.getUniqueId(), worldName,
+                delegate.withdrawPlayer(player, worldName, amount, transactionId),
+                response -> delegate.depositPlayer(player, worldName, response.amount)));
+    }
+
+    @Override
+    public EconomyResponse withdrawIfAtLeast(OfflinePlayer player, @Nullable String worldName, double amount, double floor) {
+        return record(JournalOperation.WITHDRAW, player.getUniqueId(), worldName, delegate.withdrawIfAtLeast(player, worldName, amount, floor),
+                response -> delegate.depositPlayer(player, worldName, response.amount));
+    }
+
+    // the record needs the new balance, which only the full response carries
+    @Override
+    public int withdrawIfPossible(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return withdrawPlayer(player, worldName, amount).type.getId();
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, double amount) {
+        return record(JournalOperation.DEPOSIT, player.getUniqueId(), null, delegate.depositPlayer(player, amount),
+                response -> delegate.withdrawPlayer(player, response.amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return record(JournalOperation.DEPOSIT, player.getUniqueId(), worldName, delegate.depositPlayer(player, worldName, amount),
+                response -> delegate.withdrawPlayer(player, worldName, response.amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        return record(JournalOperation.DEPOSIT, player.getUniqueId(), world.getName(), delegate.depositPlayer(world, player, amount),
+                response -> delegate.withdrawPlayer(world, player, response.amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        return deduplicator.apply(transactionId, () -> record(JournalOperation.DEPOSIT, player.getUniqueId(), worldName,
+                delegate.depositPlayer(player, worldName, amount, transactionId),
+                response -> delegate.withdrawPlayer(player, worldName, response.amount)));
+    }
+
+    @Override
+    public TransferResponse transfer(OfflinePlayer from, OfflinePlayer to, @Nullable String world, double amount) {
+        TransferResponse response = delegate.transfer(from, to, world, amount);
+        if (!response.transactionSuccess()) return response;
+        try {
+            synchronized (journal) {
+                journal.reserve(2);
+                journal.append(JournalOperation.WITHDRAW, from.getUniqueId(), response.amount, response.balance, world);
+                journal.append(JournalOperation.DEPOSIT, to.getUniqueId(), response.amount, response.recipientBalance, world);
+            }
+            return response;
+        } catch (RuntimeException e) {
+            logFailure(JournalOperation.WITHDRAW, from.getUniqueId(), response.amount, e);
+            TransferResponse reverted = delegate.transfer(to, from, world, response.amount);
+            if (!reverted.transactionSuccess()) logRevertFailure(JournalOperation.WITHDRAW, from.getUniqueId(), reverted.errorMessage);
+            return reverted.transactionSuccess()
+                    ? new TransferResponse(0, reverted.recipientBalance, reverted.balance, EconomyResponse.ResponseType.FAILURE, JOURNAL_FAILURE)
+                    : new TransferResponse(0, response.balance, response.recipientBalance, EconomyResponse.ResponseType.FAILURE, JOURNAL_FAILURE);
+        }
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, long amount) {
+        return record(JournalOperation.WITHDRAW, player.getUniqueId(), null, delegate.withdrawPlayerMinor(player, amount),
+                response -> delegate.depositPlayerMinor(player, response.amount));
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        return record(JournalOperation.WITHDRAW, player.getUniqueId(), worldName, delegate.withdrawPlayerMinor(player, worldName, amount),
+                response -> delegate.depositPlayerMinor(player, worldName, response.amount));
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, long amount) {
+        return record(JournalOperation.DEPOSIT, player.getUniqueId(), null, delegate.depositPlayerMinor(player, amount),
+                response -> delegate.withdrawPlayerMinor(player, response.amount));
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        return record(JournalOperation.DEPOSIT, player.getUniqueId(), worldName, delegate.depositPlayerMinor(player, worldName, amount),
+                response -> delegate.withdrawPlayerMinor(player, worldName, response.amount));
+    }
+
+    // applied through the journaled methods instead of the backing economy, so every changed account is recorded
+    @Override
+    public BulkOperation applyToAll(DoubleUnaryOperator function, @Nullable String world) {
+        return BulkOperation.applyToAll(this, function, world, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public EconomyResponse createBank(String name, OfflinePlayer player) {
+        return record(JournalOperation.BANK_CREATE, player.getUniqueId(), name, delegate.createBank(name, player),
+                response -> delegate.deleteBank(name));
+    }
+
+    // a deleted bank cannot be restored, so the record is reserved before the deletion is forwarded
+    @Override
+    public EconomyResponse deleteBank(String name) {
+        if (name.getBytes(StandardCharsets.UTF_8).length > TransactionJournal.MAX_NAME_LENGTH)
+            return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, JOURNAL_FAILURE);
+        synchronized (journal) {
+            try {
+                journal.reserve(1);
+            } catch (RuntimeException e) {
+                logFailure(JournalOperation.BANK_DELETE, name, 0, e);
+                return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, JOURNAL_FAILURE);
+            }
+            EconomyResponse response = delegate.deleteBank(name);
+            if (response.transactionSuccess())
+                journal.append(JournalOperation.BANK_DELETE, null, response.amount, response.balance, name);
+            return response;
+        }
+    }
+
+    @Override
+    public EconomyResponse bankWithdraw(String name, double amount) {
+        return record(JournalOperation.BANK_WITHDRAW, null, name, delegate.bankWithdraw(name, amount),
+                response -> delegate.bankDeposit(name, response.amount));
+    }
+
+    @Override
+    public EconomyResponse bankDeposit(String name, double amount) {
+        return record(JournalOperation.BANK_DEPOSIT, null, name, delegate.bankDeposit(name, amount),
+                response -> delegate.bankWithdraw(name, response.amount));
+    }
+
+    private EconomyResponse record(JournalOperation operation, @Nullable UUID uniqueId, @Nullable String name,
+                                   EconomyResponse response, UnaryOperator<EconomyResponse> revert) {
+        if (!response.transactionSuccess()) return response;
+        try {
+            journal.append(operation, uniqueId, response.amount, response.balance, name);
+            return response;
+        } catch (RuntimeException e) {
+            logFailure(operation, uniqueId != null ? uniqueId : name, response.amount, e);
+            EconomyResponse reverted = revert.apply(response);
+            if (!reverted.transactionSuccess()) logRevertFailure(operation, uniqueId != null ? uniqueId : name, reverted.errorMessage);
+            double balance = reverted.transactionSuccess() ? reverted.balance : response.balance;
+            return new EconomyResponse(0, balance, EconomyResponse.ResponseType.FAILURE, JOURNAL_FAILURE);
+        }
+    }
+
+    private MinorEconomyResponse record(JournalOperation operation, UUID uniqueId, @Nullable String name,
+                                        MinorEconomyResponse response, UnaryOperator<MinorEconomyResponse> revert) {
+        if (!response.transactionSuccess()) return response;
+        int digits = delegate.fractionalDigits();
+        double amount = MinorUnits.toMajor(response.amount, digits);
+        try {
+            journal.append(operation, uniqueId, amount, MinorUnits.toMajor(response.balance, digits), name);
+            return response;
+        } catch (RuntimeException e) {
+            logFailure(operation, uniqueId, amount, e);
+            MinorEconomyResponse reverted = revert.apply(response);
+            if (!reverted.transactionSuccess()) logRevertFailure(operation, uniqueId, reverted.errorMessage);
+            long balance = reverted.transactionSuccess() ? reverted.balance : response.balance;
+            return new MinorEconomyResponse(0, balance, EconomyResponse.ResponseType.FAILURE, JOURNAL_FAILURE);
+        }
+    }
+
+    private void logFailure(JournalOperation operation, @Nullable Object account, double amount, RuntimeException e) {
+        log.log(Level.SEVERE, String.format("[%s] Failed to journal %s of %s for %s, reverting it",
+                delegate.getName(), operation, amount, account), e);
+    }
+
+    private void logRevertFailure(JournalOperation operation, @Nullable Object account, @Nullable String message) {
+        log.severe(String.format("[%s] Failed to revert unjournaled %s for %s: %s",
+                delegate.getName(), operation, account, message));
+    }
+}
@@ -0,0 +1,311 @@
+package net.milkbowl.vault.economy.journal;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * An append-only journal of economy mutations, stored as fixed-size binary records in memory-mapped segment files.
+ * <p>
+ * Records are appended sequentially to the current segment, once it is full a new segment is started.
+ * Segments are forced to the storage device when the journal moves on to the next segment or is closed,
+ * their mappings are released once the garbage collector reclaims them.
+ * Each record carries a checksum, so records torn by a crash are detected and ignored when the journal
+ * is reopened or {@link #replay(Path, long, Consumer) replayed}.
+ * Appended records are handed to the operating system immediately and survive a crash of the server process,
+ * {@link #flush()} additionally forces them to the storage device.
+ * <p>
+ * Names (worlds and banks) are limited to {@value #MAX_NAME_LENGTH} bytes of UTF-8.
+ * This class is thread-safe.
+ */
+public final class TransactionJournal implements AutoCloseable {
+    /**
+     * The size of a single record in bytes
+     */
+    public static final int RECORD_SIZE = 128;
+    /**
+     * The maximum length of a name in UTF-8 bytes
+     */
+    public static final int MAX_NAME_LENGTH = 64;
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".seg";
+
+    private static final int SEQUENCE = 0;
+    private static final int TIMESTAMP = 8;
+    private static final int OPERATION = 16;
+    private static final int NAME_LENGTH = 17;
+    private static final int CHECKSUM = 20;
+    private static final int MOST_SIGNIFICANT_BITS = 24;
+    private static final int LEAST_SIGNIFICANT_BITS = 32;
+    private static final int AMOUNT = 40;
+    private static final int BALANCE = 48;
+    private static final int NAME = 56;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final CRC32C checksum = new CRC32C();
+    private MappedByteBuffer segment;
+    private int position;
+    private long nextSequence;
+    private boolean closed;
+
+    private TransactionJournal(Path directory, int segmentSize, MappedByteBuffer segment, int position, long nextSequence) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.segment = segment;
+        this.position = position;
+        this.nextSequence = nextSequence;
+    }
+
+    /**
+     * Opens the journal in the given directory, continuing after the last intact record.
+     *
+     * @param directory   the directory the segment files are stored in
+     * @param segmentSize the size of a segment file in bytes, rounded down to a multiple of {@link #RECORD_SIZE},
+     *                    at least two records
+     * @return the journal
+     * @throws IOException if the journal could not be opened
+     */
+    public static TransactionJournal open(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < 2 * RECORD_SIZE) throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        int size = segmentSize - segmentSize % RECORD_SIZE;
+        Files.createDirectories(directory);
+        List<Path> segments = segments(directory);
+        if (segments.isEmpty()) return new TransactionJournal(directory, size, map(directory, 1, size), 0, 1);
+
+        Path last = segments.get(segments.size() - 1);
+        long firstSequence = firstSequence(last);
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(last, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        }
+        int position = 0;
+        long sequence = firstSequence;
+        while (position + RECORD_SIZE <= buffer.capacity() && isValid(buffer, position, sequence)) {
+            position += RECORD_SIZE;
+            sequence++;
+        }
+        // clear torn records so they cannot be mistaken for valid ones after later appends
+        byte[] zeros = new byte[RECORD_SIZE];
+        for (int offset = position; offset + RECORD_SIZE <= buffer.capacity(); offset += RECORD_SIZE) {
+            buffer.put(offset, zeros);
+        }
+        return new TransactionJournal(directory, size, buffer, position, sequence);
+    }
+
+    /**
+     * Appends a record to the journal
+     *
+     * @param operation the kind of mutation
+     * @param uniqueId  the player involved, or {@code null} for bank operations without a player
+     * @param amount    the amount of the mutation
+     * @param balance   the balance after the mutation or {@link Double#NaN} if unknown
+     * @param name      the world of player operations or the name of the bank of bank operations
+     * @return the sequence number of the appended record
+     * @throws IllegalArgumentException if the name exceeds {@value #MAX_NAME_LENGTH} bytes
+     * @throws UncheckedIOException     if a new segment could not be created
+     */
+    public synchronized long append(JournalOperation operation, @Nullable UUID uniqueId, double amount,
+                                    double balance, @Nullable String name) {
+        if (closed) throw new IllegalStateException("Journal is closed");
+        byte[] bytes = name != null ? name.getBytes(StandardCharsets.UTF_8) : null;
+        if (bytes != null && bytes.length > MAX_NAME_LENGTH)
+            throw new IllegalArgumentException("Name exceeds " + MAX_NAME_LENGTH + " bytes: " + name);
+        if (position + RECORD_SIZE > segment.capacity()) rotate();
+
+        long sequence = nextSequence++;
+        MappedByteBuffer buffer = segment;
+        int offset = position;
+        buffer.putLong(offset + TIMESTAMP, System.currentTimeMillis());
+        buffer.put(offset + OPERATION, (byte) operation.getId());
+        buffer.put(offset + NAME_LENGTH, (byte) (bytes != null ? bytes.length : -1));
+        buffer.putLong(offset + MOST_SIGNIFICANT_BITS, uniqueId != null ? uniqueId.getMostSignificantBits() : 0);
+        buffer.putLong(offset + LEAST_SIGNIFICANT_BITS, uniqueId != null ? uniqueId.getLeastSignificantBits() : 0);
+        buffer.putDouble(offset + AMOUNT, amount);
+        buffer.putDouble(offset + BALANCE, balance);
+        buffer.put(offset + NAME, bytes != null ? bytes : new byte[0]);
+        buffer.putLong(offset + SEQUENCE, sequence);
+        checksum.reset();
+        buffer.putInt(offset + CHECKSUM, checksum(checksum, buffer, offset));
+        position += RECORD_SIZE;
+        return sequence;
+    }
+
+    /**
+     * Makes sure the given number of records fits into the current segment, starting a new segment otherwise.
+     * <p>
+     * A caller holding the lock of this journal from the reservation until its appends are done can rely on them
+     * not failing, unless a name exceeds {@value #MAX_NAME_LENGTH} bytes. This allows to append the records of
+     * a mutation that cannot be reverted, or several records that must be appended together.
+     *
+     * @param records the number of records to make room for
+     * @throws IllegalArgumentException if the records do not fit into a single segment
+     * @throws IllegalStateException    if the journal is closed
+     * @throws UncheckedIOException     if a new segment could not be created
+     */
+    public synchronized void reserve(int records) {
+        if (records <= 0 || records > segmentSize / RECORD_SIZE)
+            throw new IllegalArgumentException("Cannot reserve " + records + " records");
+        if (closed) throw new IllegalStateException("Journal is closed");
+        if (position + records * RECORD_SIZE > segment.capacity()) rotate();
+    }
+
+    /**
+     * Gets the sequence number the next appended record will receive
+     *
+     * @return the next sequence number
+     */
+    public synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * Forces all appended records to the storage device
+     */
+    public synchronized void flush() {
+        if (!closed) segment.force();
+    }
+
+    /**
+     * Deletes all segments only containing records below the given sequence number,
+     * e.g. after the state they describe was persisted in a snapshot.
+     * On platforms refusing to delete mapped files, segments not yet reclaimed by the garbage collector
+     * cannot be deleted yet, which is reported as an {@link IOException}.
+     *
+     * @param sequence the first sequence number to keep
+     * @throws IOException if a segment could not be deleted
+     */
+    public synchronized void truncate(long sequence) throws IOException {
+        List<Path> segments = segments(directory);
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (firstSequence(segments.get(i + 1)) > sequence) break;
+            Files.delete(segments.get(i));
+        }
+    }
+
+    /**
+     * Flushes and closes the journal
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        segment.force();
+        closed = true;
+    }
+
+    /**
+     * Reads all intact records of the journal in the given directory, in order of their sequence numbers.
+     *
+     * @param directory    the directory the segment files are stored in
+     * @param fromSequence the first sequence number to pass to the consumer
+     * @param consumer     receiving the records
+     * @return the number of records passed to the consumer
+     * @throws IOException if a segment could not be read
+     */
+    public static long replay(Path directory, long fromSequence, Consumer<JournalRecord> consumer) throws IOException {
+        if (!Files.isDirectory(directory)) return 0;
+        List<Path> segments = segments(directory);
+        long count = 0;
+        ByteBuffer buffer = null;
+        for (int i = 0; i < segments.size(); i++) {
+            if (i + 1 < segments.size() && firstSequence(segments.get(i + 1)) <= fromSequence) continue;
+            try (FileChannel channel = FileChannel.open(segments.get(i), StandardOpenOption.READ)) {
+                int size = (int) channel.size();
+                if (buffer == null || buffer.capacity() < size) buffer = ByteBuffer.allocate(size);
+                buffer.clear().limit(size);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) break;
+                }
+                buffer.flip();
+            }
+            long sequence = firstSequence(segments.get(i));
+            for (int offset = 0; offset + RECORD_SIZE <= buffer.limit(); offset += RECORD_SIZE, sequence++) {
+                if (!isValid(buffer, offset, sequence)) {
+                    // slots left free by a reservation are followed by a segment continuing the sequence
+                    if (i + 1 < segments.size() && firstSequence(segments.get(i + 1)) == sequence) break;
+                    return count;
+                }
+                if (sequence < fromSequence) continue;
+                consumer.accept(read(buffer, offset));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void rotate() {
+        segment.force();
+        MappedByteBuffer next;
+        try {
+            next = map(directory, nextSequence, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create journal segment", e);
+        }
+        segment = next;
+        position = 0;
+    }
+
+    private static MappedByteBuffer map(Path directory, long firstSequence, int size) throws IOException {
+        Path file = directory.resolve(String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).sorted().toList();
+        }
+    }
+
+    private static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static boolean isValid(ByteBuffer buffer, int offset, long sequence) {
+        return buffer.getLong(offset + SEQUENCE) == sequence
+               && buffer.getInt(offset + CHECKSUM) == checksum(new CRC32C(), buffer, offset);
+    }
+
+    private static int checksum(CRC32C crc, ByteBuffer buffer, int offset) {
+        crc.update(buffer.slice(offset, CHECKSUM));
+        crc.update(buffer.slice(offset + MOST_SIGNIFICANT_BITS, RECORD_SIZE - MOST_SIGNIFICANT_BITS));
+        return (int) crc.getValue();
+    }
+
+    private static JournalRecord read(ByteBuffer buffer, int offset) {
+        long mostSignificantBits = buffer.getLong(offset + MOST_SIGNIFICANT_BITS);
+        long leastSignificantBits = buffer.getLong(offset + LEAST_SIGNIFICANT_BITS);
+        UUID uniqueId = mostSignificantBits != 0 || leastSignificantBits != 0
+                ? new UUID(mostSignificantBits, leastSignificantBits) : null;
+        int length = buffer.get(offset + NAME_LENGTH);
+        String name = null;
+        if (length >= 0) {
+            byte[] bytes = new byte[length];
+            buffer.get(offset + NAME, bytes);
+            name = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return new JournalRecord(buffer.getLong(offset + SEQUENCE), buffer.getLong(offset + TIMESTAMP),
+                JournalOperation.byId(buffer.get(offset + OPERATION)), uniqueId,
+                buffer.getDouble(offset + AMOUNT), buffer.getDouble(offset + BALANCE), name);
+    }
+}
@@ -0,0 +1,316 @@
+package net.milkbowl.vault.economy.trace;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A compact binary file of captured economy calls, written by a {@link RecordingEconomy}
+ * and replayed by a {@link TraceReplayer}.
+ * <p>
+ * Each call takes {@value #ENTRY_SIZE} bytes, transfers another 16 bytes for the recipient.
+ * World names are written once and referenced by a short id afterwards.
+ * A trace cut off by a crash can still be read up to its last complete entry.
+ * <p>
+ * Appended calls are handed to a bounded queue and written by a dedicated thread, so callers never wait
+ * for the file. Calls appended while the queue is full are {@link #getDropped() dropped}.
+ * Once writing fails, the error is logged and all further calls are discarded.
+ * This class is thread-safe.
+ */
+public final class EconomyTrace implements AutoCloseable {
+    /**
+     * The size of a single entry in bytes, excluding the recipient of transfers
+     */
+    public static final int ENTRY_SIZE = 43;
+
+    /**
+     * The number of calls queued for writing by default
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final Logger log = Logger.getLogger("Minecraft");
+    private static final int MAGIC = 0x56545243;
+    private static final byte VERSION = 1;
+    private static final byte WORLD = 0;
+    private static final short GLOBAL = -1;
+
+    // only accessed by the writer thread
+    private final Map<String, Short> worlds = new HashMap<>();
+    private final DataOutputStream output;
+    private final Path file;
+    // holds trace entries and flush requests, completed once everything queued before them was written
+    private final BlockingQueue<Object> queue;
+    private final CompletableFuture<Void> stopped = new CompletableFuture<>();
+    private final Thread writer;
+    private final long start = System.nanoTime();
+    private final AtomicLong entries = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean failed;
+    private volatile boolean closed;
+
+    private EconomyTrace(DataOutputStream output, Path file, int capacity) {
+        this.output = output;
+        this.file = file;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::write, "Vault Trace Writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Creates a new trace file, replacing an existing one
+     *
+     * @param file     the trace file
+     * @param capacity the number of calls queued for writing before further calls are dropped
+     * @return the opened trace
+     * @throws IOException if the file could not be created
+     */
+    public static EconomyTrace open(Path file, int capacity) throws IOException {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        try {
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+        } catch (IOException e) {
+            output.close();
+            throw e;
+        }
+        return new EconomyTrace(output, file, capacity);
+    }
+
+    /**
+     * Creates a new trace file queuing up to {@value #DEFAULT_CAPACITY} calls, replacing an existing one
+     *
+     * @param file the trace file
+     * @return the opened trace
+     * @throws IOException if the file could not be created
+     */
+    public static EconomyTrace open(Path file) throws IOException {
+        return open(file, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Gets the time this trace was opened at, which the offsets of its entries are relative to
+     *
+     * @return the {@link System#nanoTime()} this trace was opened at
+     */
+    public long getStartNanos() {
+        return start;
+    }
+
+    /**
+     * Queues a call for writing to the trace, dropping it if the queue is full or writing failed
+     *
+     * @param operation     the called method
+     * @param startNanos    the {@link System#nanoTime()} the call started at
+     * @param durationNanos the time the call took in nanoseconds
+     * @param uniqueId      the player the call was made for, the sender of transfers
+     * @param recipient     the recipient of transfers, {@code null} for all other operations
+     * @param world         the name of the world or {@code null} for the global account
+     * @param amount        the amount of the call, {@code 0} for operations without an amount
+     * @throws IllegalArgumentException if the recipient is missing or present when it must not be
+     */
+    public void append(TraceOperation operation, long startNanos, long durationNanos, UUID uniqueId,
+                       @Nullable UUID recipient, @Nullable String world, double amount) {
+        if ((operation == TraceOperation.TRANSFER) != (recipient != null))
+            throw new IllegalArgumentException("Only transfers have a recipient: " + operation);
+        if (world != null && world.length() > 0xFFFF / 3 && world.getBytes(StandardCharsets.UTF_8).length > 0xFFFF)
+            throw new IllegalArgumentException("World name too long: " + world);
+        if (failed || closed) return;
+        TraceEntry entry = new TraceEntry(operation, startNanos - start, durationNanos, uniqueId, recipient, world, amount);
+        if (queue.offer(entry)) entries.incrementAndGet();
+        else dropped.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of entries queued for writing so far
+     *
+     * @return the number of entries
+     */
+    public long size() {
+        return entries.get();
+    }
+
+    /**
+     * Gets the number of calls dropped because the queue was full
+     *
+     * @return the number of dropped calls
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Checks if writing the trace failed, after which all further calls are discarded
+     *
+     * @return true if writing failed
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Writes all queued entries to the file, waiting for the writer thread
+     *
+     * @throws UncheckedIOException if the entries could not be written
+     */
+    public synchronized void flush() {
+        if (closed) return;
+        await(new CompletableFuture<>());
+        if (failed) throw new UncheckedIOException(new IOException("Failed to write trace: " + file));
+    }
+
+    /**
+     * Writes all queued entries, stops the writer thread and closes the file
+     *
+     * @throws UncheckedIOException if the file could not be closed
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        await(stopped);
+        try {
+            output.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close trace", e);
+        }
+    }
+
+    private void await(CompletableFuture<Void> request) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(request);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        request.join();
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private void write() {
+        while (true) {
+            Object element;
+            try {
+                element = queue.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (failed) {
+                if (element instanceof CompletableFuture<?> request) request.complete(null);
+                if (element == stopped) return;
+                continue;
+            }
+            try {
+                if (element instanceof TraceEntry entry) write(entry);
+                else output.flush();
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+            }
+            if (element instanceof CompletableFuture<?> request) request.complete(null);
+            if (element == stopped) return;
+        }
+    }
+
+    private void write(TraceEntry entry) throws IOException {
+        UUID recipient = entry.recipient();
+        short worldId = entry.world() != null ? world(entry.world()) : GLOBAL;
+        output.writeByte(entry.operation().getId());
+        output.writeShort(worldId);
+        output.writeLong(entry.offsetNanos());
+        output.writeLong(entry.durationNanos());
+        output.writeLong(entry.uniqueId().getMostSignificantBits());
+        output.writeLong(entry.uniqueId().getLeastSignificantBits());
+        output.writeDouble(entry.amount());
+        if (recipient != null) {
+            output.writeLong(recipient.getMostSignificantBits());
+            output.writeLong(recipient.getLeastSignificantBits());
+        }
+    }
+
+    // everything queued afterwards is discarded, so a broken file is only reported once
+    private void fail(Exception e) {
+        failed = true;
+        log.log(Level.SEVERE, "Failed to write economy trace " + file + ", recording is disabled", e);
+    }
+
+    /**
+     * Reads all entries of a trace file, ignoring a trailing incomplete entry
+     *
+     * @param file the trace file
+     * @return the entries in the order they were appended
+     * @throws IOException if the file could not be read or is no trace
+     */
+    public static List<TraceEntry> read(Path file) throws IOException {
+        List<TraceEntry> entries = new ArrayList<>();
+        Map<Short, String> worlds = new HashMap<>();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (input.readInt() != MAGIC) throw new IOException("Not an economy trace: " + file);
+            byte version = input.readByte();
+            if (version != VERSION) throw new IOException("Unsupported trace version " + version + ": " + file);
+            while (true) {
+                int type = input.read();
+                if (type == -1) break;
+                if (type == WORLD) {
+                    short id = input.readShort();
+                    byte[] name = new byte[input.readUnsignedShort()];
+                    input.readFully(name);
+                    worlds.put(id, new String(name, StandardCharsets.UTF_8));
+                    continue;
+                }
+                TraceOperation operation = TraceOperation.byId(type);
+                short worldId = input.readShort();
+                long offset = input.readLong();
+                long duration = input.readLong();
+                UUID uniqueId = new UUID(input.readLong(), input.readLong());
+                double amount = input.readDouble();
+                UUID recipient = operation == TraceOperation.TRANSFER ? new UUID(input.readLong(), input.readLong()) : null;
+                String world = worldId != GLOBAL ? worlds.get(worldId) : null;
+                entries.add(new TraceEntry(operation, offset, duration, uniqueId, recipient, world, amount));
+            }
+        } catch (EOFException ignored) {
+            // the trace was cut off in the middle of an entry
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt trace: " + file, e);
+        }
+        return entries;
+    }
+
+    private short world(String name) throws IOException {
+        Short id = worlds.get(name);
+        if (id != null) return id;
+        if (worlds.size() == Short.MAX_VALUE) throw new IllegalStateException("Too many worlds in trace");
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) throw new IllegalArgumentException("World name too long: " + name);
+        short created = (short) worlds.size();
+        output.writeByte(WORLD);
+        output.writeShort(created);
+        output.writeShort(bytes.length);
+        output.write(bytes);
+        worlds.put(name, created);
+        return created;
+    }
+}
@@ -0,0 +1,219 @@
+package net.milkbowl.vault.economy.trace;
+
+import net.milkbowl.vault.WorldContext;
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import net.milkbowl.vault.economy.ForwardingEconomy;
+import net.milkbowl.vault.economy.TransferResponse;
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link Economy} decorator capturing the calls made to the backing economy in an {@link EconomyTrace}.
+ * <p>
+ * Account checks, balance lookups, withdrawals, deposits and transfers made through the {@link OfflinePlayer}
+ * methods are captured along with the time they started and took, whether they succeeded or not.
+ * All other calls are forwarded without being captured.
+ * Captured calls are written to the trace in the background. Failing to capture a call does not fail
+ * the call itself, once the trace {@link EconomyTrace#isFailed() failed} calls are no longer captured.
+ *
+ * @see TraceReplayer
+ */
+public class RecordingEconomy extends ForwardingEconomy {
+    private static final Logger log = Logger.getLogger("Minecraft");
+
+    private final EconomyTrace trace;
+
+    /**
+     * Constructor for RecordingEconomy
+     *
+     * @param delegate the economy to capture the calls of
+     * @param trace    the trace to append captured calls to
+     */
+    public RecordingEconomy(Economy delegate, EconomyTrace trace) {
+        super(delegate);
+        this.trace = trace;
+    }
+
+    /**
+     * Gets the trace calls are captured in
+     *
+     * @return the trace
+     */
+    public EconomyTrace getTrace() {
+        return trace;
+    }
+
+    @Override
+    public boolean hasAccount(OfflinePlayer player) {
+        long start = System.nanoTime();
+        try {
+            return delegate.hasAccount(player);
+        } finally {
+            record(TraceOperation.HAS_ACCOUNT, start, player.getUniqueId(), null, null, 0);
+        }
+    }
+
+    @Override
+    public boolean hasAccount(OfflinePlayer player, @Nullable String worldName) {
+        long start = System.nanoTime();
+        try {
+            return delegate.hasAccount(player, worldName);
+        } finally {
+            record(TraceOperation.HAS_ACCOUNT, start, player.getUniqueId(), null, worldName, 0);
+        }
+    }
+
+    @Override
+    public boolean hasAccount(WorldContext world, OfflinePlayer player) {
+        long start = System.nanoTime();
+        try {
+            return delegate.hasAccount(world, player);
+        } finally {
+            record(TraceOperation.HAS_ACCOUNT, start, player.getUniqueId(), null, world.getName(), 0);
+        }
+    }
+
+    @Override
+    public double getBalance(OfflinePlayer player) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getBalance(player);
+        } finally {
+            record(TraceOperation.GET_BALANCE, start, player.getUniqueId(), null, null, 0);
+        }
+    }
+
+    @Override
+    public double getBalance(OfflinePlayer player, @Nullable String world) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getBalance(player, world);
+        } finally {
+            record(TraceOperation.GET_BALANCE, start, player.getUniqueId(), null, world, 0);
+        }
+    }
+
+    @Override
+    public double getBalance(WorldContext world, OfflinePlayer player) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getBalance(world, player);
+        } finally {
+            record(TraceOperation.GET_BALANCE, start, player.getUniqueId(), null, world.getName(), 0);
+        }
+    }
+
+    @Override
+    public boolean has(OfflinePlayer player, double amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.has(player, amount);
+        } finally {
+            record(TraceOperation.HAS, start, player.getUniqueId(), null, null, amount);
+        }
+    }
+
+    @Override
+    public boolean has(OfflinePlayer player, @Nullable String worldName, double amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.has(player, worldName, amount);
+        } finally {
+            record(TraceOperation.HAS, start, player.getUniqueId(), null, worldName, amount);
+        }
+    }
+
+    @Override
+    public boolean has(WorldContext world, OfflinePlayer player, double amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.has(world, player, amount);
+        } finally {
+            record(TraceOperation.HAS, start, player.getUniqueId(), null, world.getName(), amount);
+        }
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, double amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.withdrawPlayer(player, amount);
+        } finally {
+            record(TraceOperation.WITHDRAW, start, player.getUniqueId(), null, null, amount);
+        }
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.withdrawPlayer(player, worldName, amount);
+        } finally {
+            record(TraceOperation.WITHDRAW, start, player.getUniqueId(), null, worldName, amount);
+        }
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.withdrawPlayer(world, player, amount);
+        } finally {
+            record(TraceOperation.WITHDRAW, start, player.getUniqueId(), null, world.getName(), amount);
+        }
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, double amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.depositPlayer(player, amount);
+        } finally {
+            record(TraceOperation.DEPOSIT, start, player.getUniqueId(), null, null, amount);
+        }
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.depositPlayer(player, worldName, amount);
+        } finally {
+            record(TraceOperation.DEPOSIT, start, player.getUniqueId(), null, worldName, amount);
+        }
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.depositPlayer(world, player, amount);
+        } finally {
+            record(TraceOperation.DEPOSIT, start, player.getUniqueId(), null, world.getName(), amount);
+        }
+    }
+
+    @Override
+    public TransferResponse transfer(OfflinePlayer from, OfflinePlayer to, @Nullable String world, double amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.transfer(from, to, world, amount);
+        } finally {
+            record(TraceOperation.TRANSFER, start, from.getUniqueId(), to.getUniqueId(), world, amount);
+        }
+    }
+
+    private void record(TraceOperation operation, long start, UUID uniqueId, @Nullable UUID recipient, @Nullable String world, double amount) {
+        if (trace.isFailed()) return;
+        try {
+            trace.append(operation, start, System.nanoTime() - start, uniqueId, recipient, world, amount);
+        } catch (RuntimeException e) {
+            log.log(Level.SEVERE, String.format("[%s] Failed to trace %s of %s", delegate.getName(), operation, uniqueId), e);
+        }
+    }
+}
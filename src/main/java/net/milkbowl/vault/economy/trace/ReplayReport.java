@@ -0,0 +1,52 @@
+package net.milkbowl.vault.economy.trace;
+
+import net.milkbowl.vault.metrics.LatencyHistogram;
+
+import java.util.Map;
+
+/**
+ * The outcome of {@link TraceReplayer#replay(java.util.List, double, int) replaying} a trace.
+ *
+ * @param calls        the number of replayed calls
+ * @param errors       the number of calls that threw an exception
+ * @param elapsedNanos the time the replay took in nanoseconds
+ * @param latencies    the latencies of the replayed calls per operation
+ * @param lag          how late calls started compared to their schedule in the trace, empty when replaying
+ *                     as fast as possible, growing lags mean the economy could not keep up with the replay speed
+ */
+public record ReplayReport(
+        long calls,
+        long errors,
+        long elapsedNanos,
+        Map<TraceOperation, LatencyHistogram> latencies,
+        LatencyHistogram lag
+) {
+    /**
+     * Gets the number of replayed calls per second
+     *
+     * @return the throughput in calls per second
+     */
+    public double throughput() {
+        return elapsedNanos > 0 ? calls * 1e9 / elapsedNanos : 0;
+    }
+
+    /**
+     * Formats this report as a table of the latencies per operation
+     *
+     * @return the formatted report
+     */
+    public String summary() {
+        StringBuilder builder = new StringBuilder(String.format("%d calls (%d errors) in %.2fs, %.0f calls/s%n",
+                calls, errors, elapsedNanos / 1e9, throughput()));
+        builder.append(String.format("%-12s %10s %10s %10s %10s %10s%n", "operation", "calls", "mean us", "p50 us", "p99 us", "max us"));
+        latencies.forEach((operation, latency) -> {
+            if (latency.count() == 0) return;
+            builder.append(String.format("%-12s %10d %10.1f %10.1f %10.1f %10.1f%n", operation, latency.count(),
+                    latency.meanNanos() / 1e3, latency.percentileNanos(0.5) / 1e3,
+                    latency.percentileNanos(0.99) / 1e3, latency.maxNanos() / 1e3));
+        });
+        if (lag.count() > 0) builder.append(String.format("schedule lag p50 %.1fus, p99 %.1fus, max %.1fus", lag.percentileNanos(0.5) / 1e3,
+                lag.percentileNanos(0.99) / 1e3, lag.maxNanos() / 1e3));
+        return builder.toString().stripTrailing();
+    }
+}
@@ -0,0 +1,27 @@
+package net.milkbowl.vault.economy.trace;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * A single economy call captured in an {@link EconomyTrace}.
+ *
+ * @param operation     the called method
+ * @param offsetNanos   the time the call started, in nanoseconds since the trace was opened
+ * @param durationNanos the time the call took in nanoseconds
+ * @param uniqueId      the player the call was made for, the sender of transfers
+ * @param recipient     the recipient of transfers, {@code null} for all other operations
+ * @param world         the name of the world or {@code null} for the global account
+ * @param amount        the amount of the call, {@code 0} for operations without an amount
+ */
+public record TraceEntry(
+        TraceOperation operation,
+        long offsetNanos,
+        long durationNanos,
+        UUID uniqueId,
+        @Nullable UUID recipient,
+        @Nullable String world,
+        double amount
+) {
+}
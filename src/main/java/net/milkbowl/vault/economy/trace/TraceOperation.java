@@ -0,0 +1,59 @@
+package net.milkbowl.vault.economy.trace;
+
+/**
+ * The {@link net.milkbowl.vault.economy.Economy} method called by a {@link TraceEntry}.
+ */
+public enum TraceOperation {
+    /**
+     * {@link net.milkbowl.vault.economy.Economy#hasAccount(org.bukkit.OfflinePlayer, String)}
+     */
+    HAS_ACCOUNT(1),
+    /**
+     * {@link net.milkbowl.vault.economy.Economy#getBalance(org.bukkit.OfflinePlayer, String)}
+     */
+    GET_BALANCE(2),
+    /**
+     * {@link net.milkbowl.vault.economy.Economy#has(org.bukkit.OfflinePlayer, String, double)}
+     */
+    HAS(3),
+    /**
+     * {@link net.milkbowl.vault.economy.Economy#withdrawPlayer(org.bukkit.OfflinePlayer, String, double)}
+     */
+    WITHDRAW(4),
+    /**
+     * {@link net.milkbowl.vault.economy.Economy#depositPlayer(org.bukkit.OfflinePlayer, String, double)}
+     */
+    DEPOSIT(5),
+    /**
+     * {@link net.milkbowl.vault.economy.Economy#transfer(org.bukkit.OfflinePlayer, org.bukkit.OfflinePlayer, String, double)}
+     */
+    TRANSFER(6);
+
+    private final int id;
+
+    TraceOperation(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the numeric id this operation is encoded with
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the operation with the given numeric id
+     *
+     * @param id of the operation
+     * @return the operation
+     * @throws IllegalArgumentException if no operation has the given id
+     */
+    public static TraceOperation byId(int id) {
+        TraceOperation[] values = values();
+        if (id < 1 || id > values.length) throw new IllegalArgumentException("Unknown trace operation id: " + id);
+        return values[id - 1];
+    }
+}
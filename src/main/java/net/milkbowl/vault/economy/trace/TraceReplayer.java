@@ -0,0 +1,131 @@
+package net.milkbowl.vault.economy.trace;
+
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.metrics.LatencyHistogram;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Replays a captured {@link EconomyTrace} against an economy, to compare providers or validate tuning changes
+ * with realistic traffic away from the live server.
+ * <p>
+ * Calls are replayed by a number of concurrent workers, each taking the next call of the trace
+ * and waiting until it is due, so the replay follows the timing of the trace at the chosen speed.
+ * Balance mutations are replayed as well, so traces should be replayed against a copy of the economy data.
+ * <pre>{@code
+ * List<TraceEntry> trace = EconomyTrace.read(Path.of("economy.trace"));
+ * ReplayReport report = new TraceReplayer(economy).replay(trace, 10, 4);
+ * System.out.println(report.summary());
+ * }</pre>
+ */
+public final class TraceReplayer {
+    private final Economy economy;
+    private final Function<UUID, OfflinePlayer> players;
+
+    /**
+     * Constructor for TraceReplayer, resolving players through {@link Bukkit#getOfflinePlayer(UUID)}
+     *
+     * @param economy the economy to replay calls against
+     */
+    public TraceReplayer(Economy economy) {
+        this(economy, Bukkit::getOfflinePlayer);
+    }
+
+    /**
+     * Constructor for TraceReplayer
+     *
+     * @param economy the economy to replay calls against
+     * @param players resolves the players the calls are made for
+     */
+    public TraceReplayer(Economy economy, Function<UUID, OfflinePlayer> players) {
+        this.economy = Objects.requireNonNull(economy, "economy");
+        this.players = Objects.requireNonNull(players, "players");
+    }
+
+    /**
+     * Replays a trace and waits for all calls to complete
+     *
+     * @param trace   the calls to replay, ordered by their offset
+     * @param speed   how much faster than recorded to replay, {@code 1} for the original timing
+     *                and {@link Double#POSITIVE_INFINITY} to replay as fast as possible
+     * @param workers the number of concurrent workers
+     * @return the throughput and latencies of the replay
+     * @throws InterruptedException if the current thread was interrupted, which stops the replay
+     */
+    public ReplayReport replay(List<TraceEntry> trace, double speed, int workers) throws InterruptedException {
+        if (!(speed > 0)) throw new IllegalArgumentException("Speed must be positive: " + speed);
+        if (workers <= 0) throw new IllegalArgumentException("Workers must be positive: " + workers);
+
+        Map<TraceOperation, LatencyHistogram> latencies = new EnumMap<>(TraceOperation.class);
+        for (TraceOperation operation : TraceOperation.values()) latencies.put(operation, new LatencyHistogram());
+        LatencyHistogram lag = new LatencyHistogram();
+        LongAdder calls = new LongAdder();
+        LongAdder errors = new LongAdder();
+        AtomicInteger next = new AtomicInteger();
+        long first = trace.isEmpty() ? 0 : trace.get(0).offsetNanos();
+        long start = System.nanoTime();
+
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < trace.size() && !Thread.currentThread().isInterrupted()) {
+                TraceEntry entry = trace.get(index);
+                long begin = System.nanoTime();
+                if (!Double.isInfinite(speed)) {
+                    long due = start + (long) ((entry.offsetNanos() - first) / speed);
+                    while (due - begin > 0) {
+                        LockSupport.parkNanos(due - begin);
+                        begin = System.nanoTime();
+                    }
+                    lag.record(begin - due);
+                }
+                try {
+                    call(entry);
+                } catch (RuntimeException e) {
+                    errors.increment();
+                }
+                latencies.get(entry.operation()).record(System.nanoTime() - begin);
+                calls.increment();
+            }
+        };
+        List<Thread> threads = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            Thread thread = new Thread(worker, "Vault Trace Replay #" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        try {
+            for (Thread thread : threads) thread.join();
+        } catch (InterruptedException e) {
+            threads.forEach(Thread::interrupt);
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        return new ReplayReport(calls.sum(), errors.sum(), elapsed, Collections.unmodifiableMap(latencies), lag);
+    }
+
+    private void call(TraceEntry entry) {
+        OfflinePlayer player = players.apply(entry.uniqueId());
+        switch (entry.operation()) {
+            case HAS_ACCOUNT -> economy.hasAccount(player, entry.world());
+            case GET_BALANCE -> economy.getBalance(player, entry.world());
+            case HAS -> economy.has(player, entry.world(), entry.amount());
+            case WITHDRAW -> economy.withdrawPlayer(player, entry.world(), entry.amount());
+            case DEPOSIT -> economy.depositPlayer(player, entry.world(), entry.amount());
+            case TRANSFER -> economy.transfer(player, players.apply(Objects.requireNonNull(entry.recipient())),
+                    entry.world(), entry.amount());
+        }
+    }
+}
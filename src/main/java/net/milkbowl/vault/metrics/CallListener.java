@@ -0,0 +1,20 @@
+package net.milkbowl.vault.metrics;
+
+/**
+ * Notified after every call recorded in {@link ProviderMetrics}.
+ * <p>
+ * Listeners run synchronously on the thread that made the call, right after it completed,
+ * and should return quickly.
+ *
+ * @see ProviderMetrics#addListener(CallListener)
+ */
+@FunctionalInterface
+public interface CallListener {
+    /**
+     * Called after a provider method completed, successfully or not
+     *
+     * @param method the statistics of the called method
+     * @param nanos  the latency of the call in nanoseconds
+     */
+    void callCompleted(MethodMetrics method, long nanos);
+}
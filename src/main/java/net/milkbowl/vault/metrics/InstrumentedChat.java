@@ -0,0 +1,539 @@
+package net.milkbowl.vault.metrics;
+
+import net.milkbowl.vault.WorldContext;
+import net.milkbowl.vault.chat.Chat;
+import net.milkbowl.vault.permission.Permission;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * A {@link Chat} decorator recording the calls, failures and latencies of every method in {@link ProviderMetrics}.
+ * <p>
+ * Calls throwing an {@link UnsupportedOperationException} are counted as not implemented.
+ * Methods describing the provider itself, like {@link #getName()}, are forwarded without being recorded.
+ */
+@SuppressWarnings("deprecation")
+public class InstrumentedChat extends Chat {
+    private final Chat delegate;
+    private final ProviderMetrics metrics;
+
+    /**
+     * Constructor for InstrumentedChat
+     *
+     * @param delegate   the chat provider to instrument
+     * @param permission the permission provider the chat provider was created with
+     */
+    public InstrumentedChat(Chat delegate, Permission permission) {
+        this(delegate, permission, new ProviderMetrics("Chat", delegate.getName()));
+    }
+
+    /**
+     * Constructor for InstrumentedChat
+     *
+     * @param delegate   the chat provider to instrument
+     * @param permission the permission provider the chat provider was created with
+     * @param metrics    the statistics to record calls in
+     */
+    public InstrumentedChat(Chat delegate, Permission permission, ProviderMetrics metrics) {
+        super(permission);
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the chat provider method calls are forwarded to
+     *
+     * @return the backing chat provider
+     */
+    public Chat getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Gets the statistics calls are recorded in
+     *
+     * @return the provider metrics
+     */
+    public ProviderMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String getPlayerPrefix(@Nullable String world, String player) {
+        return metrics.method("getPlayerPrefix").call(() -> delegate.getPlayerPrefix(world, player));
+    }
+
+    @Override
+    public String getPlayerPrefix(@Nullable String world, OfflinePlayer player) {
+        return metrics.method("getPlayerPrefix").call(() -> delegate.getPlayerPrefix(world, player));
+    }
+
+    @Override
+    public String getPlayerPrefix(OfflinePlayer player, WorldContext world) {
+        return metrics.method("getPlayerPrefix").call(() -> delegate.getPlayerPrefix(player, world));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String getPlayerPrefix(@Nullable World world, String player) {
+        return metrics.method("getPlayerPrefix").call(() -> delegate.getPlayerPrefix(world, player));
+    }
+
+    @Override
+    public String getPlayerPrefix(Player player) {
+        return metrics.method("getPlayerPrefix").call(() -> delegate.getPlayerPrefix(player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public void setPlayerPrefix(@Nullable String world, String player, String prefix) {
+        metrics.method("setPlayerPrefix").run(() -> delegate.setPlayerPrefix(world, player, prefix));
+    }
+
+    @Override
+    public void setPlayerPrefix(@Nullable String world, OfflinePlayer player, String prefix) {
+        metrics.method("setPlayerPrefix").run(() -> delegate.setPlayerPrefix(world, player, prefix));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public void setPlayerPrefix(@Nullable World world, String player, String prefix) {
+        metrics.method("setPlayerPrefix").run(() -> delegate.setPlayerPrefix(world, player, prefix));
+    }
+
+    @Override
+    public void setPlayerPrefix(Player player, String prefix) {
+        metrics.method("setPlayerPrefix").run(() -> delegate.setPlayerPrefix(player, prefix));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String getPlayerSuffix(@Nullable String world, String player) {
+        return metrics.method("getPlayerSuffix").call(() -> delegate.getPlayerSuffix(world, player));
+    }
+
+    @Override
+    public String getPlayerSuffix(@Nullable String world, OfflinePlayer player) {
+        return metrics.method("getPlayerSuffix").call(() -> delegate.getPlayerSuffix(world, player));
+    }
+
+    @Override
+    public String getPlayerSuffix(OfflinePlayer player, WorldContext world) {
+        return metrics.method("getPlayerSuffix").call(() -> delegate.getPlayerSuffix(player, world));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String getPlayerSuffix(@Nullable World world, String player) {
+        return metrics.method("getPlayerSuffix").call(() -> delegate.getPlayerSuffix(world, player));
+    }
+
+    @Override
+    public String getPlayerSuffix(Player player) {
+        return metrics.method("getPlayerSuffix").call(() -> delegate.getPlayerSuffix(player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public void setPlayerSuffix(@Nullable String world, String player, String suffix) {
+        metrics.method("setPlayerSuffix").run(() -> delegate.setPlayerSuffix(world, player, suffix));
+    }
+
+    @Override
+    public void setPlayerSuffix(@Nullable String world, OfflinePlayer player, String suffix) {
+        metrics.method("setPlayerSuffix").run(() -> delegate.setPlayerSuffix(world, player, suffix));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public void setPlayerSuffix(@Nullable World world, String player, String suffix) {
+        metrics.method("setPlayerSuffix").run(() -> delegate.setPlayerSuffix(world, player, suffix));
+    }
+
+    @Override
+    public void setPlayerSuffix(Player player, String suffix) {
+        metrics.method("setPlayerSuffix").run(() -> delegate.setPlayerSuffix(player, suffix));
+    }
+
+    @Override
+    public String getGroupPrefix(@Nullable String world, String group) {
+        return metrics.method("getGroupPrefix").call(() -> delegate.getGroupPrefix(world, group));
+    }
+
+    @Override
+    public String getGroupPrefix(@Nullable World world, String group) {
+        return metrics.method("getGroupPrefix").call(() -> delegate.getGroupPrefix(world, group));
+    }
+
+    @Override
+    public void setGroupPrefix(@Nullable String world, String group, String prefix) {
+        metrics.method("setGroupPrefix").run(() -> delegate.setGroupPrefix(world, group, prefix));
+    }
+
+    @Override
+    public void setGroupPrefix(@Nullable World world, String group, String prefix) {
+        metrics.method("setGroupPrefix").run(() -> delegate.setGroupPrefix(world, group, prefix));
+    }
+
+    @Override
+    public String getGroupSuffix(@Nullable String world, String group) {
+        return metrics.method("getGroupSuffix").call(() -> delegate.getGroupSuffix(world, group));
+    }
+
+    @Override
+    public String getGroupSuffix(@Nullable World world, String group) {
+        return metrics.method("getGroupSuffix").call(() -> delegate.getGroupSuffix(world, group));
+    }
+
+    @Override
+    public void setGroupSuffix(@Nullable String world, String group, String suffix) {
+        metrics.method("setGroupSuffix").run(() -> delegate.setGroupSuffix(world, group, suffix));
+    }
+
+    @Override
+    public void setGroupSuffix(@Nullable World world, String group, String suffix) {
+        metrics.method("setGroupSuffix").run(() -> delegate.setGroupSuffix(world, group, suffix));
+    }
+
+    @Override
+    public int getPlayerInfoInteger(@Nullable String world, OfflinePlayer player, String node, int defaultValue) {
+        return metrics.method("getPlayerInfoInteger").callInt(() -> delegate.getPlayerInfoInteger(world, player, node, defaultValue));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public int getPlayerInfoInteger(@Nullable String world, String player, String node, int defaultValue) {
+        return metrics.method("getPlayerInfoInteger").callInt(() -> delegate.getPlayerInfoInteger(world, player, node, defaultValue));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public int getPlayerInfoInteger(@Nullable World world, String player, String node, int defaultValue) {
+        return metrics.method("getPlayerInfoInteger").callInt(() -> delegate.getPlayerInfoInteger(world, player, node, defaultValue));
+    }
+
+    @Override
+    public int getPlayerInfoInteger(Player player, String node, int defaultValue) {
+        return metrics.method("getPlayerInfoInteger").callInt(() -> delegate.getPlayerInfoInteger(player, node, defaultValue));
+    }
+
+    @Override
+    public void setPlayerInfoInteger(@Nullable String world, OfflinePlayer player, String node, int value) {
+        metrics.method("setPlayerInfoInteger").run(() -> delegate.setPlayerInfoInteger(world, player, node, value));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public void setPlayerInfoInteger(@Nullable String world, String player, String node, int value) {
+        metrics.method("setPlayerInfoInteger").run(() -> delegate.setPlayerInfoInteger(world, player, node, value));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public void setPlayerInfoInteger(@Nullable World world, String player, String node, int value) {
+        metrics.method("setPlayerInfoInteger").run(() -> delegate.setPlayerInfoInteger(world, player, node, value));
+    }
+
+    @Override
+    public void setPlayerInfoInteger(Player player, String node, int value) {
+        metrics.method("setPlayerInfoInteger").run(() -> delegate.setPlayerInfoInteger(player, node, value));
+    }
+
+    @Override
+    public int getGroupInfoInteger(@Nullable String world, String group, String node, int defaultValue) {
+        return metrics.method("getGroupInfoInteger").callInt(() -> delegate.getGroupInfoInteger(world, group, node, defaultValue));
+    }
+
+    @Override
+    public int getGroupInfoInteger(@Nullable World world, String group, String node, int defaultValue) {
+        return metrics.method("getGroupInfoInteger").callInt(() -> delegate.getGroupInfoInteger(world, group, node, defaultValue));
+    }
+
+    @Override
+    public void setGroupInfoInteger(@Nullable String world, String group, String node, int value) {
+        metrics.method("setGroupInfoInteger").run(() -> delegate.setGroupInfoInteger(world, group, node, value));
+    }
+
+    @Override
+    public void setGroupInfoInteger(@Nullable World world, String group, String node, int value) {
+        metrics.method("setGroupInfoInteger").run(() -> delegate.setGroupInfoInteger(world, group, node, value));
+    }
+
+    @Override
+    public double getPlayerInfoDouble(@Nullable String world, OfflinePlayer player, String node, double defaultValue) {
+        return metrics.method("getPlayerInfoDouble").callDouble(() -> delegate.getPlayerInfoDouble(world, player, node, defaultValue));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public double getPlayerInfoDouble(@Nullable String world, String player, String node, double defaultValue) {
+        return metrics.method("getPlayerInfoDouble").callDouble(() -> delegate.getPlayerInfoDouble(world, player, node, defaultValue));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public double getPlayerInfoDouble(@Nullable World world, String player, String node, double defaultValue) {
+        return metrics.method("getPlayerInfoDouble").callDouble(() -> delegate.getPlayerInfoDouble(world, player, node, defaultValue));
+    }
+
+    @Override
+    public double getPlayerInfoDouble(Player player, String node, double defaultValue) {
+        return metrics.method("getPlayerInfoDouble").callDouble(() -> delegate.getPlayerInfoDouble(player, node, defaultValue));
+    }
+
+    @Override
+    public void setPlayerInfoDouble(@Nullable String world, OfflinePlayer player, String node, double value) {
+        metrics.method("setPlayerInfoDouble").run(() -> delegate.setPlayerInfoDouble(world, player, node, value));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public void setPlayerInfoDouble(@Nullable String world, String player, String node, double value) {
+        metrics.method("setPlayerInfoDouble").run(() -> delegate.setPlayerInfoDouble(world, player, node, value));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public void setPlayerInfoDouble(@Nullable World world, String player, String node, double value) {
+        metrics.method("setPlayerInfoDouble").run(() -> delegate.setPlayerInfoDouble(world, player, node, value));
+    }
+
+    @Override
+    public void setPlayerInfoDouble(Player player, String node, double value) {
+        metrics.method("setPlayerInfoDouble").run(() -> delegate.setPlayerInfoDouble(player, node, value));
+    }
+
+    @Override
+    public double getGroupInfoDouble(@Nullable String world, String group, String node, double defaultValue) {
+        return metrics.method("getGroupInfoDouble").callDouble(() -> delegate.getGroupInfoDouble(world, group, node, defaultValue));
+    }
+
+    @Override
+    public double getGroupInfoDouble(@Nullable World world, String group, String node, double defaultValue) {
+        return metrics.method("getGroupInfoDouble").callDouble(() -> delegate.getGroupInfoDouble(world, group, node, defaultValue));
+    }
+
+    @Override
+    public void setGroupInfoDouble(@Nullable String world, String group, String node, double value) {
+        metrics.method("setGroupInfoDouble").run(() -> delegate.setGroupInfoDouble(world, group, node, value));
+    }
+
+    @Override
+    public void setGroupInfoDouble(@Nullable World world, String group, String node, double value) {
+        metrics.method("setGroupInfoDouble").run(() -> delegate.setGroupInfoDouble(world, group, node, value));
+    }
+
+    @Override
+    public boolean getPlayerInfoBoolean(@Nullable String world, OfflinePlayer player, String node, boolean defaultValue) {
+        return metrics.method("getPlayerInfoBoolean").callBoolean(() -> delegate.getPlayerInfoBoolean(world, player, node, defaultValue));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean getPlayerInfoBoolean(@Nullable String world, String player, String node, boolean defaultValue) {
+        return metrics.method("getPlayerInfoBoolean").callBoolean(() -> delegate.getPlayerInfoBoolean(world, player, node, defaultValue));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean getPlayerInfoBoolean(@Nullable World world, String player, String node, boolean defaultValue) {
+        return metrics.method("getPlayerInfoBoolean").callBoolean(() -> delegate.getPlayerInfoBoolean(world, player, node, defaultValue));
+    }
+
+    @Override
+    public boolean getPlayerInfoBoolean(Player player, String node, boolean defaultValue) {
+        return metrics.method("getPlayerInfoBoolean").callBoolean(() -> delegate.getPlayerInfoBoolean(player, node, defaultValue));
+    }
+
+    @Override
+    public void setPlayerInfoBoolean(@Nullable String world, OfflinePlayer player, String node, boolean value) {
+        metrics.method("setPlayerInfoBoolean").run(() -> delegate.setPlayerInfoBoolean(world, player, node, value));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public void setPlayerInfoBoolean(@Nullable String world, String player, String node, boolean value) {
+        metrics.method("setPlayerInfoBoolean").run(() -> delegate.setPlayerInfoBoolean(world, player, node, value));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public void setPlayerInfoBoolean(@Nullable World world, String player, String node, boolean value) {
+        metrics.method("setPlayerInfoBoolean").run(() -> delegate.setPlayerInfoBoolean(world, player, node, value));
+    }
+
+    @Override
+    public void setPlayerInfoBoolean(Player player, String node, boolean value) {
+        metrics.method("setPlayerInfoBoolean").run(() -> delegate.setPlayerInfoBoolean(player, node, value));
+    }
+
+    @Override
+    public boolean getGroupInfoBoolean(@Nullable String world, String group, String node, boolean defaultValue) {
+        return metrics.method("getGroupInfoBoolean").callBoolean(() -> delegate.getGroupInfoBoolean(world, group, node, defaultValue));
+    }
+
+    @Override
+    public boolean getGroupInfoBoolean(@Nullable World world, String group, String node, boolean defaultValue) {
+        return metrics.method("getGroupInfoBoolean").callBoolean(() -> delegate.getGroupInfoBoolean(world, group, node, defaultValue));
+    }
+
+    @Override
+    public void setGroupInfoBoolean(@Nullable String world, String group, String node, boolean value) {
+        metrics.method("setGroupInfoBoolean").run(() -> delegate.setGroupInfoBoolean(world, group, node, value));
+    }
+
+    @Override
+    public void setGroupInfoBoolean(@Nullable World world, String group, String node, boolean value) {
+        metrics.method("setGroupInfoBoolean").run(() -> delegate.setGroupInfoBoolean(world, group, node, value));
+    }
+
+    @Override
+    public String getPlayerInfoString(@Nullable String world, OfflinePlayer player, String node, String defaultValue) {
+        return metrics.method("getPlayerInfoString").call(() -> delegate.getPlayerInfoString(world, player, node, defaultValue));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String getPlayerInfoString(@Nullable String world, String player, String node, String defaultValue) {
+        return metrics.method("getPlayerInfoString").call(() -> delegate.getPlayerInfoString(world, player, node, defaultValue));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String getPlayerInfoString(@Nullable World world, String player, String node, String defaultValue) {
+        return metrics.method("getPlayerInfoString").call(() -> delegate.getPlayerInfoString(world, player, node, defaultValue));
+    }
+
+    @Override
+    public String getPlayerInfoString(Player player, String node, String defaultValue) {
+        return metrics.method("getPlayerInfoString").call(() -> delegate.getPlayerInfoString(player, node, defaultValue));
+    }
+
+    @Override
+    public void setPlayerInfoString(@Nullable String world, OfflinePlayer player, String node, String value) {
+        metrics.method("setPlayerInfoString").run(() -> delegate.setPlayerInfoString(world, player, node, value));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public void setPlayerInfoString(@Nullable String world, String player, String node, String value) {
+        metrics.method("setPlayerInfoString").run(() -> delegate.setPlayerInfoString(world, player, node, value));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public void setPlayerInfoString(@Nullable World world, String player, String node, String value) {
+        metrics.method("setPlayerInfoString").run(() -> delegate.setPlayerInfoString(world, player, node, value));
+    }
+
+    @Override
+    public void setPlayerInfoString(Player player, String node, String value) {
+        metrics.method("setPlayerInfoString").run(() -> delegate.setPlayerInfoString(player, node, value));
+    }
+
+    @Override
+    public String getGroupInfoString(@Nullable String world, String group, String node, String defaultValue) {
+        return metrics.method("getGroupInfoString").call(() -> delegate.getGroupInfoString(world, group, node, defaultValue));
+    }
+
+    @Override
+    public String getGroupInfoString(@Nullable World world, String group, String node, String defaultValue) {
+        return metrics.method("getGroupInfoString").call(() -> delegate.getGroupInfoString(world, group, node, defaultValue));
+    }
+
+    @Override
+    public void setGroupInfoString(@Nullable String world, String group, String node, String value) {
+        metrics.method("setGroupInfoString").run(() -> delegate.setGroupInfoString(world, group, node, value));
+    }
+
+    @Override
+    public void setGroupInfoString(@Nullable World world, String group, String node, String value) {
+        metrics.method("setGroupInfoString").run(() -> delegate.setGroupInfoString(world, group, node, value));
+    }
+
+    @Override
+    public boolean playerInGroup(@Nullable String world, OfflinePlayer player, String group) {
+        return metrics.method("playerInGroup").callBoolean(() -> delegate.playerInGroup(world, player, group));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean playerInGroup(@Nullable String world, String player, String group) {
+        return metrics.method("playerInGroup").callBoolean(() -> delegate.playerInGroup(world, player, group));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean playerInGroup(@Nullable World world, String player, String group) {
+        return metrics.method("playerInGroup").callBoolean(() -> delegate.playerInGroup(world, player, group));
+    }
+
+    @Override
+    public boolean playerInGroup(Player player, String group) {
+        return metrics.method("playerInGroup").callBoolean(() -> delegate.playerInGroup(player, group));
+    }
+
+    @Override
+    public String[] getPlayerGroups(@Nullable String world, OfflinePlayer player) {
+        return metrics.method("getPlayerGroups").call(() -> delegate.getPlayerGroups(world, player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String[] getPlayerGroups(@Nullable String world, String player) {
+        return metrics.method("getPlayerGroups").call(() -> delegate.getPlayerGroups(world, player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String[] getPlayerGroups(@Nullable World world, String player) {
+        return metrics.method("getPlayerGroups").call(() -> delegate.getPlayerGroups(world, player));
+    }
+
+    @Override
+    public String[] getPlayerGroups(Player player) {
+        return metrics.method("getPlayerGroups").call(() -> delegate.getPlayerGroups(player));
+    }
+
+    @Override
+    public String getPrimaryGroup(@Nullable String world, OfflinePlayer player) {
+        return metrics.method("getPrimaryGroup").call(() -> delegate.getPrimaryGroup(world, player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String getPrimaryGroup(@Nullable String world, String player) {
+        return metrics.method("getPrimaryGroup").call(() -> delegate.getPrimaryGroup(world, player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String getPrimaryGroup(@Nullable World world, String player) {
+        return metrics.method("getPrimaryGroup").call(() -> delegate.getPrimaryGroup(world, player));
+    }
+
+    @Override
+    public String getPrimaryGroup(Player player) {
+        return metrics.method("getPrimaryGroup").call(() -> delegate.getPrimaryGroup(player));
+    }
+
+    @Override
+    public String[] getGroups() {
+        return metrics.method("getGroups").call(() -> delegate.getGroups());
+    }
+}
@@ -0,0 +1,445 @@
+package net.milkbowl.vault.metrics;
+
+import net.milkbowl.vault.WorldContext;
+import net.milkbowl.vault.economy.Balances;
+import net.milkbowl.vault.economy.BulkOperation;
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import net.milkbowl.vault.economy.ForwardingEconomy;
+import net.milkbowl.vault.economy.MinorEconomyResponse;
+import net.milkbowl.vault.economy.TransferResponse;
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * An {@link Economy} decorator recording the calls, failures and latencies of every method in {@link ProviderMetrics}.
+ * <p>
+ * Calls answered with a {@link EconomyResponse.ResponseType#NOT_IMPLEMENTED NOT_IMPLEMENTED} response or an
+ * {@link UnsupportedOperationException} are counted as not implemented, calls answered with a
+ * {@link EconomyResponse.ResponseType#FAILURE FAILURE} response or type id are counted as failures.
+ * Methods describing the provider itself, like {@link #getName()}, are forwarded without being recorded.
+ * {@link #account(OfflinePlayer, String) Account handles} forward to this economy, so their calls are recorded as well.
+ * The {@link net.milkbowl.vault.economy.AsyncEconomy AsyncEconomy} methods of the backing economy are not exposed,
+ * calls made on them directly are not recorded.
+ */
+@SuppressWarnings("deprecation")
+public class InstrumentedEconomy extends ForwardingEconomy {
+    private final ProviderMetrics metrics;
+
+    /**
+     * Constructor for InstrumentedEconomy
+     *
+     * @param delegate the economy to instrument
+     */
+    public InstrumentedEconomy(Economy delegate) {
+        this(delegate, new ProviderMetrics("Economy", delegate.getName()));
+    }
+
+    /**
+     * Constructor for InstrumentedEconomy
+     *
+     * @param delegate the economy to instrument
+     * @param metrics  the statistics to record calls in
+     */
+    public InstrumentedEconomy(Economy delegate, ProviderMetrics metrics) {
+        super(delegate);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the statistics calls are recorded in
+     *
+     * @return the provider metrics
+     */
+    public ProviderMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean hasAccount(String playerName) {
+        return metrics.method("hasAccount").callBoolean(() -> delegate.hasAccount(playerName));
+    }
+
+    @Override
+    public boolean hasAccount(OfflinePlayer player) {
+        return metrics.method("hasAccount").callBoolean(() -> delegate.hasAccount(player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean hasAccount(String playerName, @Nullable String worldName) {
+        return metrics.method("hasAccount").callBoolean(() -> delegate.hasAccount(playerName, worldName));
+    }
+
+    @Override
+    public boolean hasAccount(OfflinePlayer player, @Nullable String worldName) {
+        return metrics.method("hasAccount").callBoolean(() -> delegate.hasAccount(player, worldName));
+    }
+
+    @Override
+    public boolean hasAccount(WorldContext world, OfflinePlayer player) {
+        return metrics.method("hasAccount").callBoolean(() -> delegate.hasAccount(world, player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public double getBalance(String playerName) {
+        return metrics.method("getBalance").callDouble(() -> delegate.getBalance(playerName));
+    }
+
+    @Override
+    public double getBalance(OfflinePlayer player) {
+        return metrics.method("getBalance").callDouble(() -> delegate.getBalance(player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public double getBalance(String playerName, @Nullable String world) {
+        return metrics.method("getBalance").callDouble(() -> delegate.getBalance(playerName, world));
+    }
+
+    @Override
+    public double getBalance(OfflinePlayer player, @Nullable String world) {
+        return metrics.method("getBalance").callDouble(() -> delegate.getBalance(player, world));
+    }
+
+    @Override
+    public double getBalance(WorldContext world, OfflinePlayer player) {
+        return metrics.method("getBalance").callDouble(() -> delegate.getBalance(world, player));
+    }
+
+    @Override
+    public Balances getBalances(Collection<? extends OfflinePlayer> players, @Nullable String world) {
+        return metrics.method("getBalances").call(() -> delegate.getBalances(players, world));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean has(String playerName, double amount) {
+        return metrics.method("has").callBoolean(() -> delegate.has(playerName, amount));
+    }
+
+    @Override
+    public boolean has(OfflinePlayer player, double amount) {
+        return metrics.method("has").callBoolean(() -> delegate.has(player, amount));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean has(String playerName, @Nullable String worldName, double amount) {
+        return metrics.method("has").callBoolean(() -> delegate.has(playerName, worldName, amount));
+    }
+
+    @Override
+    public boolean has(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return metrics.method("has").callBoolean(() -> delegate.has(player, worldName, amount));
+    }
+
+    @Override
+    public boolean has(WorldContext world, OfflinePlayer player, double amount) {
+        return metrics.method("has").callBoolean(() -> delegate.has(world, player, amount));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse withdrawPlayer(String playerName, double amount) {
+        return responded("withdrawPlayer", () -> delegate.withdrawPlayer(playerName, amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, double amount) {
+        return responded("withdrawPlayer", () -> delegate.withdrawPlayer(player, amount));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse withdrawPlayer(String playerName, @Nullable String worldName, double amount) {
+        return responded("withdrawPlayer", () -> delegate.withdrawPlayer(playerName, worldName, amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return responded("withdrawPlayer", () -> delegate.withdrawPlayer(player, worldName, amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        return responded("withdrawPlayer", () -> delegate.withdrawPlayer(world, player, amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        return responded("withdrawPlayer", () -> delegate.withdrawPlayer(player, worldName, amount, transactionId));
+    }
+
+    @Override
+    public EconomyResponse withdrawIfAtLeast(OfflinePlayer player, @Nullable String worldName, double amount, double floor) {
+        return responded("withdrawIfAtLeast", () -> delegate.withdrawIfAtLeast(player, worldName, amount, floor));
+    }
+
+    @Override
+    public int withdrawIfPossible(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return respondedType("withdrawIfPossible", () -> delegate.withdrawIfPossible(player, worldName, amount));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse depositPlayer(String playerName, double amount) {
+        return responded("depositPlayer", () -> delegate.depositPlayer(playerName, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, double amount) {
+        return responded("depositPlayer", () -> delegate.depositPlayer(player, amount));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse depositPlayer(String playerName, @Nullable String worldName, double amount) {
+        return responded("depositPlayer", () -> delegate.depositPlayer(playerName, worldName, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount) {
+        return responded("depositPlayer", () -> delegate.depositPlayer(player, worldName, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(WorldContext world, OfflinePlayer player, double amount) {
+        return responded("depositPlayer", () -> delegate.depositPlayer(world, player, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, @Nullable String worldName, double amount, UUID transactionId) {
+        return responded("depositPlayer", () -> delegate.depositPlayer(player, worldName, amount, transactionId));
+    }
+
+    @Override
+    public TransferResponse transfer(OfflinePlayer from, OfflinePlayer to, @Nullable String world, double amount) {
+        return responded("transfer", () -> delegate.transfer(from, to, world, amount));
+    }
+
+    @Override
+    public long getBalanceMinor(OfflinePlayer player) {
+        return metrics.method("getBalanceMinor").callLong(() -> delegate.getBalanceMinor(player));
+    }
+
+    @Override
+    public long getBalanceMinor(OfflinePlayer player, @Nullable String world) {
+        return metrics.method("getBalanceMinor").callLong(() -> delegate.getBalanceMinor(player, world));
+    }
+
+    @Override
+    public boolean hasMinor(OfflinePlayer player, long amount) {
+        return metrics.method("hasMinor").callBoolean(() -> delegate.hasMinor(player, amount));
+    }
+
+    @Override
+    public boolean hasMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        return metrics.method("hasMinor").callBoolean(() -> delegate.hasMinor(player, worldName, amount));
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, long amount) {
+        return respondedMinor("withdrawPlayerMinor", () -> delegate.withdrawPlayerMinor(player, amount));
+    }
+
+    @Override
+    public MinorEconomyResponse withdrawPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        return respondedMinor("withdrawPlayerMinor", () -> delegate.withdrawPlayerMinor(player, worldName, amount));
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, long amount) {
+        return respondedMinor("depositPlayerMinor", () -> delegate.depositPlayerMinor(player, amount));
+    }
+
+    @Override
+    public MinorEconomyResponse depositPlayerMinor(OfflinePlayer player, @Nullable String worldName, long amount) {
+        return respondedMinor("depositPlayerMinor", () -> delegate.depositPlayerMinor(player, worldName, amount));
+    }
+
+    @Override
+    public Balances topBalances(int limit, @Nullable String world) {
+        return metrics.method("topBalances").call(() -> delegate.topBalances(limit, world));
+    }
+
+    @Override
+    public int rankOf(OfflinePlayer player) {
+        return metrics.method("rankOf").callInt(() -> delegate.rankOf(player));
+    }
+
+    @Override
+    public int rankOf(OfflinePlayer player, @Nullable String world) {
+        return metrics.method("rankOf").callInt(() -> delegate.rankOf(player, world));
+    }
+
+    @Override
+    public Spliterator<UUID> accounts(@Nullable String world) {
+        return metrics.method("accounts").call(() -> delegate.accounts(world));
+    }
+
+    @Override
+    public BulkOperation applyToAll(DoubleUnaryOperator function, @Nullable String world) {
+        return metrics.method("applyToAll").call(() -> delegate.applyToAll(function, world));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse createBank(String name, String player) {
+        return responded("createBank", () -> delegate.createBank(name, player));
+    }
+
+    @Override
+    public EconomyResponse createBank(String name, OfflinePlayer player) {
+        return responded("createBank", () -> delegate.createBank(name, player));
+    }
+
+    @Override
+    public EconomyResponse deleteBank(String name) {
+        return responded("deleteBank", () -> delegate.deleteBank(name));
+    }
+
+    @Override
+    public EconomyResponse bankBalance(String name) {
+        return responded("bankBalance", () -> delegate.bankBalance(name));
+    }
+
+    @Override
+    public EconomyResponse bankHas(String name, double amount) {
+        return responded("bankHas", () -> delegate.bankHas(name, amount));
+    }
+
+    @Override
+    public EconomyResponse bankWithdraw(String name, double amount) {
+        return responded("bankWithdraw", () -> delegate.bankWithdraw(name, amount));
+    }
+
+    @Override
+    public EconomyResponse bankDeposit(String name, double amount) {
+        return responded("bankDeposit", () -> delegate.bankDeposit(name, amount));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse isBankOwner(String name, String playerName) {
+        return responded("isBankOwner", () -> delegate.isBankOwner(name, playerName));
+    }
+
+    @Override
+    public EconomyResponse isBankOwner(String name, OfflinePlayer player) {
+        return responded("isBankOwner", () -> delegate.isBankOwner(name, player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public EconomyResponse isBankMember(String name, String playerName) {
+        return responded("isBankMember", () -> delegate.isBankMember(name, playerName));
+    }
+
+    @Override
+    public EconomyResponse isBankMember(String name, OfflinePlayer player) {
+        return responded("isBankMember", () -> delegate.isBankMember(name, player));
+    }
+
+    @Override
+    public boolean ownsBank(String name, OfflinePlayer player) {
+        return metrics.method("ownsBank").callBoolean(() -> delegate.ownsBank(name, player));
+    }
+
+    @Override
+    public boolean isMemberOfBank(String name, OfflinePlayer player) {
+        return metrics.method("isMemberOfBank").callBoolean(() -> delegate.isMemberOfBank(name, player));
+    }
+
+    @Override
+    public Set<String> banksOf(OfflinePlayer player) {
+        return metrics.method("banksOf").call(() -> delegate.banksOf(player));
+    }
+
+    @Override
+    public Set<UUID> membersOf(String name) {
+        return metrics.method("membersOf").call(() -> delegate.membersOf(name));
+    }
+
+    @Override
+    public List<String> getBanks() {
+        return metrics.method("getBanks").call(() -> delegate.getBanks());
+    }
+
+    @Override
+    public List<String> getBanks(@Nullable String prefix, @Nullable String after, int limit) {
+        return metrics.method("getBanks").call(() -> delegate.getBanks(prefix, after, limit));
+    }
+
+    @Override
+    public Stream<String> banks(@Nullable String prefix, int pageSize) {
+        return metrics.method("banks").call(() -> delegate.banks(prefix, pageSize));
+    }
+
+    @Override
+    public Map<String, Double> bankBalances(Collection<String> names) {
+        return metrics.method("bankBalances").call(() -> delegate.bankBalances(names));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean createPlayerAccount(String playerName) {
+        return metrics.method("createPlayerAccount").callBoolean(() -> delegate.createPlayerAccount(playerName));
+    }
+
+    @Override
+    public boolean createPlayerAccount(OfflinePlayer player) {
+        return metrics.method("createPlayerAccount").callBoolean(() -> delegate.createPlayerAccount(player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean createPlayerAccount(String playerName, @Nullable String worldName) {
+        return metrics.method("createPlayerAccount").callBoolean(() -> delegate.createPlayerAccount(playerName, worldName));
+    }
+
+    @Override
+    public boolean createPlayerAccount(OfflinePlayer player, @Nullable String worldName) {
+        return metrics.method("createPlayerAccount").callBoolean(() -> delegate.createPlayerAccount(player, worldName));
+    }
+
+    private <T extends EconomyResponse> T responded(String name, Supplier<T> call) {
+        MethodMetrics method = metrics.method(name);
+        T response = method.call(call);
+        responded(method, response.type);
+        return response;
+    }
+
+    private MinorEconomyResponse respondedMinor(String name, Supplier<MinorEconomyResponse> call) {
+        MethodMetrics method = metrics.method(name);
+        MinorEconomyResponse response = method.call(call);
+        responded(method, response.type);
+        return response;
+    }
+
+    private int respondedType(String name, IntSupplier call) {
+        MethodMetrics method = metrics.method(name);
+        int type = method.callInt(call);
+        if (type == EconomyResponse.ResponseType.NOT_IMPLEMENTED.getId()) method.notImplemented();
+        else if (type == EconomyResponse.ResponseType.FAILURE.getId()) method.failure();
+        return type;
+    }
+
+    private static void responded(MethodMetrics method, EconomyResponse.ResponseType type) {
+        if (type == EconomyResponse.ResponseType.NOT_IMPLEMENTED) method.notImplemented();
+        else if (type == EconomyResponse.ResponseType.FAILURE) method.failure();
+    }
+}
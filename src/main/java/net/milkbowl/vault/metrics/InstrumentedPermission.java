@@ -0,0 +1,374 @@
+package net.milkbowl.vault.metrics;
+
+import net.milkbowl.vault.WorldContext;
+import net.milkbowl.vault.permission.Permission;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * A {@link Permission} decorator recording the calls, failures and latencies of every method in {@link ProviderMetrics}.
+ * <p>
+ * Calls throwing an {@link UnsupportedOperationException} are counted as not implemented.
+ * Methods describing the provider itself, like {@link #getName()}, are forwarded without being recorded.
+ */
+@SuppressWarnings("deprecation")
+public class InstrumentedPermission extends Permission {
+    private final Permission delegate;
+    private final ProviderMetrics metrics;
+
+    /**
+     * Constructor for InstrumentedPermission
+     *
+     * @param delegate the permission provider to instrument
+     */
+    public InstrumentedPermission(Permission delegate) {
+        this(delegate, new ProviderMetrics("Permission", delegate.getName()));
+    }
+
+    /**
+     * Constructor for InstrumentedPermission
+     *
+     * @param delegate the permission provider to instrument
+     * @param metrics  the statistics to record calls in
+     */
+    public InstrumentedPermission(Permission delegate, ProviderMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the permission provider method calls are forwarded to
+     *
+     * @return the backing permission provider
+     */
+    public Permission getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Gets the statistics calls are recorded in
+     *
+     * @return the provider metrics
+     */
+    public ProviderMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    public boolean hasSuperPermsCompat() {
+        return delegate.hasSuperPermsCompat();
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean has(@Nullable String world, String player, String permission) {
+        return metrics.method("has").callBoolean(() -> delegate.has(world, player, permission));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean has(@Nullable World world, String player, String permission) {
+        return metrics.method("has").callBoolean(() -> delegate.has(world, player, permission));
+    }
+
+    @Override
+    public boolean has(CommandSender sender, String permission) {
+        return metrics.method("has").callBoolean(() -> delegate.has(sender, permission));
+    }
+
+    @Override
+    public boolean has(Player player, String permission) {
+        return metrics.method("has").callBoolean(() -> delegate.has(player, permission));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean playerHas(@Nullable String world, String player, String permission) {
+        return metrics.method("playerHas").callBoolean(() -> delegate.playerHas(world, player, permission));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean playerHas(@Nullable World world, String player, String permission) {
+        return metrics.method("playerHas").callBoolean(() -> delegate.playerHas(world, player, permission));
+    }
+
+    @Override
+    public boolean playerHas(@Nullable String world, OfflinePlayer player, String permission) {
+        return metrics.method("playerHas").callBoolean(() -> delegate.playerHas(world, player, permission));
+    }
+
+    @Override
+    public boolean playerHas(OfflinePlayer player, WorldContext world, String permission) {
+        return metrics.method("playerHas").callBoolean(() -> delegate.playerHas(player, world, permission));
+    }
+
+    @Override
+    public boolean playerHas(Player player, String permission) {
+        return metrics.method("playerHas").callBoolean(() -> delegate.playerHas(player, permission));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean playerAdd(@Nullable String world, String player, String permission) {
+        return metrics.method("playerAdd").callBoolean(() -> delegate.playerAdd(world, player, permission));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean playerAdd(@Nullable World world, String player, String permission) {
+        return metrics.method("playerAdd").callBoolean(() -> delegate.playerAdd(world, player, permission));
+    }
+
+    @Override
+    public boolean playerAdd(@Nullable String world, OfflinePlayer player, String permission) {
+        return metrics.method("playerAdd").callBoolean(() -> delegate.playerAdd(world, player, permission));
+    }
+
+    @Override
+    public boolean playerAdd(Player player, String permission) {
+        return metrics.method("playerAdd").callBoolean(() -> delegate.playerAdd(player, permission));
+    }
+
+    @Override
+    public boolean playerAddTransient(OfflinePlayer player, String permission) {
+        return metrics.method("playerAddTransient").callBoolean(() -> delegate.playerAddTransient(player, permission));
+    }
+
+    @Override
+    public boolean playerAddTransient(Player player, String permission) {
+        return metrics.method("playerAddTransient").callBoolean(() -> delegate.playerAddTransient(player, permission));
+    }
+
+    @Override
+    public boolean playerAddTransient(@Nullable String worldName, OfflinePlayer player, String permission) {
+        return metrics.method("playerAddTransient").callBoolean(() -> delegate.playerAddTransient(worldName, player, permission));
+    }
+
+    @Override
+    public boolean playerAddTransient(@Nullable String worldName, Player player, String permission) {
+        return metrics.method("playerAddTransient").callBoolean(() -> delegate.playerAddTransient(worldName, player, permission));
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@Nullable String worldName, OfflinePlayer player, String permission) {
+        return metrics.method("playerRemoveTransient").callBoolean(() -> delegate.playerRemoveTransient(worldName, player, permission));
+    }
+
+    @Override
+    public boolean playerRemoveTransient(@Nullable String worldName, Player player, String permission) {
+        return metrics.method("playerRemoveTransient").callBoolean(() -> delegate.playerRemoveTransient(worldName, player, permission));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean playerRemove(@Nullable String world, String player, String permission) {
+        return metrics.method("playerRemove").callBoolean(() -> delegate.playerRemove(world, player, permission));
+    }
+
+    @Override
+    public boolean playerRemove(@Nullable String world, OfflinePlayer player, String permission) {
+        return metrics.method("playerRemove").callBoolean(() -> delegate.playerRemove(world, player, permission));
+    }
+
+    @Override
+    @Deprecated
+    public boolean playerRemove(@Nullable World world, String player, String permission) {
+        return metrics.method("playerRemove").callBoolean(() -> delegate.playerRemove(world, player, permission));
+    }
+
+    @Override
+    public boolean playerRemove(Player player, String permission) {
+        return metrics.method("playerRemove").callBoolean(() -> delegate.playerRemove(player, permission));
+    }
+
+    @Override
+    public boolean playerRemoveTransient(OfflinePlayer player, String permission) {
+        return metrics.method("playerRemoveTransient").callBoolean(() -> delegate.playerRemoveTransient(player, permission));
+    }
+
+    @Override
+    public boolean playerRemoveTransient(Player player, String permission) {
+        return metrics.method("playerRemoveTransient").callBoolean(() -> delegate.playerRemoveTransient(player, permission));
+    }
+
+    @Override
+    public boolean groupHas(@Nullable String world, String group, String permission) {
+        return metrics.method("groupHas").callBoolean(() -> delegate.groupHas(world, group, permission));
+    }
+
+    @Override
+    public boolean groupHas(@Nullable World world, String group, String permission) {
+        return metrics.method("groupHas").callBoolean(() -> delegate.groupHas(world, group, permission));
+    }
+
+    @Override
+    public boolean groupAdd(@Nullable String world, String group, String permission) {
+        return metrics.method("groupAdd").callBoolean(() -> delegate.groupAdd(world, group, permission));
+    }
+
+    @Override
+    public boolean groupAdd(@Nullable World world, String group, String permission) {
+        return metrics.method("groupAdd").callBoolean(() -> delegate.groupAdd(world, group, permission));
+    }
+
+    @Override
+    public boolean groupRemove(@Nullable String world, String group, String permission) {
+        return metrics.method("groupRemove").callBoolean(() -> delegate.groupRemove(world, group, permission));
+    }
+
+    @Override
+    public boolean groupRemove(@Nullable World world, String group, String permission) {
+        return metrics.method("groupRemove").callBoolean(() -> delegate.groupRemove(world, group, permission));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean playerInGroup(@Nullable String world, String player, String group) {
+        return metrics.method("playerInGroup").callBoolean(() -> delegate.playerInGroup(world, player, group));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean playerInGroup(@Nullable World world, String player, String group) {
+        return metrics.method("playerInGroup").callBoolean(() -> delegate.playerInGroup(world, player, group));
+    }
+
+    @Override
+    public boolean playerInGroup(@Nullable String world, OfflinePlayer player, String group) {
+        return metrics.method("playerInGroup").callBoolean(() -> delegate.playerInGroup(world, player, group));
+    }
+
+    @Override
+    public boolean playerInGroup(OfflinePlayer player, WorldContext world, String group) {
+        return metrics.method("playerInGroup").callBoolean(() -> delegate.playerInGroup(player, world, group));
+    }
+
+    @Override
+    public boolean playerInGroup(Player player, String group) {
+        return metrics.method("playerInGroup").callBoolean(() -> delegate.playerInGroup(player, group));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean playerAddGroup(@Nullable String world, String player, String group) {
+        return metrics.method("playerAddGroup").callBoolean(() -> delegate.playerAddGroup(world, player, group));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean playerAddGroup(@Nullable World world, String player, String group) {
+        return metrics.method("playerAddGroup").callBoolean(() -> delegate.playerAddGroup(world, player, group));
+    }
+
+    @Override
+    public boolean playerAddGroup(@Nullable String world, OfflinePlayer player, String group) {
+        return metrics.method("playerAddGroup").callBoolean(() -> delegate.playerAddGroup(world, player, group));
+    }
+
+    @Override
+    public boolean playerAddGroup(Player player, String group) {
+        return metrics.method("playerAddGroup").callBoolean(() -> delegate.playerAddGroup(player, group));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean playerRemoveGroup(@Nullable String world, String player, String group) {
+        return metrics.method("playerRemoveGroup").callBoolean(() -> delegate.playerRemoveGroup(world, player, group));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public boolean playerRemoveGroup(@Nullable World world, String player, String group) {
+        return metrics.method("playerRemoveGroup").callBoolean(() -> delegate.playerRemoveGroup(world, player, group));
+    }
+
+    @Override
+    public boolean playerRemoveGroup(@Nullable String world, OfflinePlayer player, String group) {
+        return metrics.method("playerRemoveGroup").callBoolean(() -> delegate.playerRemoveGroup(world, player, group));
+    }
+
+    @Override
+    public boolean playerRemoveGroup(Player player, String group) {
+        return metrics.method("playerRemoveGroup").callBoolean(() -> delegate.playerRemoveGroup(player, group));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String[] getPlayerGroups(@Nullable String world, String player) {
+        return metrics.method("getPlayerGroups").call(() -> delegate.getPlayerGroups(world, player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String[] getPlayerGroups(@Nullable World world, String player) {
+        return metrics.method("getPlayerGroups").call(() -> delegate.getPlayerGroups(world, player));
+    }
+
+    @Override
+    public String[] getPlayerGroups(@Nullable String world, OfflinePlayer player) {
+        return metrics.method("getPlayerGroups").call(() -> delegate.getPlayerGroups(world, player));
+    }
+
+    @Override
+    public String[] getPlayerGroups(OfflinePlayer player, WorldContext world) {
+        return metrics.method("getPlayerGroups").call(() -> delegate.getPlayerGroups(player, world));
+    }
+
+    @Override
+    public String[] getPlayerGroups(Player player) {
+        return metrics.method("getPlayerGroups").call(() -> delegate.getPlayerGroups(player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String getPrimaryGroup(@Nullable String world, String player) {
+        return metrics.method("getPrimaryGroup").call(() -> delegate.getPrimaryGroup(world, player));
+    }
+
+    @Override
+    @Deprecated(since = "1.4")
+    public String getPrimaryGroup(@Nullable World world, String player) {
+        return metrics.method("getPrimaryGroup").call(() -> delegate.getPrimaryGroup(world, player));
+    }
+
+    @Override
+    public String getPrimaryGroup(@Nullable String world, OfflinePlayer player) {
+        return metrics.method("getPrimaryGroup").call(() -> delegate.getPrimaryGroup(world, player));
+    }
+
+    @Override
+    public String getPrimaryGroup(OfflinePlayer player, WorldContext world) {
+        return metrics.method("getPrimaryGroup").call(() -> delegate.getPrimaryGroup(player, world));
+    }
+
+    @Override
+    public String getPrimaryGroup(Player player) {
+        return metrics.method("getPrimaryGroup").call(() -> delegate.getPrimaryGroup(player));
+    }
+
+    @Override
+    public String[] getGroups() {
+        return metrics.method("getGroups").call(() -> delegate.getGroups());
+    }
+
+    @Override
+    public boolean hasGroupSupport() {
+        return delegate.hasGroupSupport();
+    }
+}
@@ -0,0 +1,97 @@
+package net.milkbowl.vault.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds.
+ * <p>
+ * Latencies are counted in buckets of powers of two, bucket {@code i} holding latencies in {@code [2^(i-1), 2^i)}.
+ * Recording takes a few atomic increments and never allocates,
+ * percentiles are accurate to the bucket they fall into.
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = Long.SIZE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency
+     *
+     * @param nanos the latency in nanoseconds, negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(latency));
+        total.add(latency);
+        max.accumulate(latency);
+    }
+
+    /**
+     * Gets the number of recorded latencies
+     *
+     * @return the number of recorded latencies
+     */
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) count += buckets.get(i);
+        return count;
+    }
+
+    /**
+     * Gets the sum of all recorded latencies
+     *
+     * @return the total latency in nanoseconds
+     */
+    public long totalNanos() {
+        return total.sum();
+    }
+
+    /**
+     * Gets the highest recorded latency
+     *
+     * @return the maximum latency in nanoseconds
+     */
+    public long maxNanos() {
+        return max.get();
+    }
+
+    /**
+     * Gets the mean of all recorded latencies
+     *
+     * @return the mean latency in nanoseconds or {@code 0} if nothing was recorded
+     */
+    public double meanNanos() {
+        long count = count();
+        return count != 0 ? (double) totalNanos() / count : 0;
+    }
+
+    /**
+     * Gets an upper bound of the latency below which the given fraction of recorded latencies fall
+     *
+     * @param quantile the fraction, e.g. {@code 0.99} for the 99th percentile
+     * @return the upper bound of the bucket containing the percentile in nanoseconds,
+     * capped at the maximum latency, or {@code 0} if nothing was recorded
+     */
+    public long percentileNanos(double quantile) {
+        if (quantile < 0 || quantile > 1) throw new IllegalArgumentException("Quantile out of range: " + quantile);
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) count += counts[i] = buckets.get(i);
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(upperBound(i), maxNanos());
+        }
+        return maxNanos();
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket == 0 ? 0 : (1L << bucket) - 1;
+    }
+}
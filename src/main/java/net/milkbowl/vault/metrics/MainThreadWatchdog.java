@@ -0,0 +1,107 @@
+package net.milkbowl.vault.metrics;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link CallListener} flagging provider calls on the server main thread that exceed a latency budget.
+ * <p>
+ * Every slow call is counted, but the stack of the calling plugin is only captured and logged for
+ * the first slow call of a method within each sampling period, keeping the overhead negligible
+ * even if a provider is slow on every call. Calls within the budget cost a single comparison.
+ * <p>
+ * Install the watchdog on the {@link ProviderMetrics} of instrumented providers:
+ * <pre>{@code
+ * MainThreadWatchdog watchdog = new MainThreadWatchdog(Duration.ofMillis(5), Duration.ofSeconds(30));
+ * instrumentedEconomy.getMetrics().addListener(watchdog);
+ * }</pre>
+ */
+public class MainThreadWatchdog implements CallListener {
+    private static final Logger log = Logger.getLogger("Minecraft");
+    private static final StackWalker walker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final Map<MethodMetrics, Violations> violations = new ConcurrentHashMap<>();
+    private final long budgetNanos;
+    private final long samplePeriodNanos;
+
+    /**
+     * Constructor for MainThreadWatchdog
+     *
+     * @param budget       the latency a call on the main thread may take before it is flagged
+     * @param samplePeriod the minimum time between two logged stacks of the same method
+     */
+    public MainThreadWatchdog(Duration budget, Duration samplePeriod) {
+        if (budget.isNegative()) throw new IllegalArgumentException("Budget must not be negative: " + budget);
+        if (samplePeriod.isNegative()) throw new IllegalArgumentException("Sample period must not be negative: " + samplePeriod);
+        this.budgetNanos = budget.toNanos();
+        this.samplePeriodNanos = samplePeriod.toNanos();
+    }
+
+    @Override
+    public void callCompleted(MethodMetrics method, long nanos) {
+        if (nanos <= budgetNanos || !Bukkit.isPrimaryThread()) return;
+        Violations entry = violations.computeIfAbsent(method, ignored -> new Violations());
+        entry.count.increment();
+
+        long now = System.nanoTime();
+        long next = entry.nextSample.get();
+        if (now - next < 0 || !entry.nextSample.compareAndSet(next, now + samplePeriodNanos)) return;
+
+        List<StackWalker.StackFrame> frames = walker.walk(stream -> stream
+                .dropWhile(frame -> isVault(frame.getClassName())).toList());
+        Plugin caller = null;
+        for (StackWalker.StackFrame frame : frames) {
+            caller = providingPlugin(frame.getDeclaringClass());
+            if (caller != null) break;
+        }
+        Throwable stack = new Throwable("Stack of the slow call");
+        stack.setStackTrace(frames.stream().map(StackWalker.StackFrame::toStackTraceElement)
+                .toArray(StackTraceElement[]::new));
+
+        ProviderMetrics provider = method.getProvider();
+        log.log(Level.WARNING, String.format("[%s] %s#%s took %.2fms on the main thread (budget %.2fms), called by %s, %s slow calls so far",
+                provider.getProvider(), provider.getService(), method.getName(), nanos / 1e6, budgetNanos / 1e6,
+                caller != null ? caller.getName() : "an unknown plugin", entry.count.sum()), stack);
+    }
+
+    /**
+     * Gets the number of calls that exceeded the budget on the main thread
+     *
+     * @return the number of slow calls keyed by {@code <provider> <service>#<method>}
+     */
+    public Map<String, Long> getViolations() {
+        Map<String, Long> counts = new TreeMap<>();
+        violations.forEach((method, entry) -> counts.put(method.getProvider().getProvider() + " "
+                + method.getProvider().getService() + "#" + method.getName(), entry.count.sum()));
+        return counts;
+    }
+
+    private static boolean isVault(String className) {
+        return className.startsWith("net.milkbowl.vault.");
+    }
+
+    private static @Nullable Plugin providingPlugin(Class<?> type) {
+        try {
+            return JavaPlugin.getProvidingPlugin(type);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private static final class Violations {
+        private final LongAdder count = new LongAdder();
+        private final AtomicLong nextSample = new AtomicLong(System.nanoTime());
+    }
+}
@@ -0,0 +1,227 @@
+package net.milkbowl.vault.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Call statistics of a single provider method, all overloads of a method sharing the same statistics.
+ */
+public final class MethodMetrics {
+    private final ProviderMetrics provider;
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder notImplemented = new LongAdder();
+
+    MethodMetrics(ProviderMetrics provider, String name) {
+        this.provider = provider;
+        this.name = name;
+    }
+
+    /**
+     * Gets the name of the method
+     *
+     * @return the method name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the statistics of the provider this method belongs to
+     *
+     * @return the provider metrics
+     */
+    public ProviderMetrics getProvider() {
+        return provider;
+    }
+
+    /**
+     * Gets the number of completed calls, including failed ones
+     *
+     * @return the number of calls
+     */
+    public long getCalls() {
+        return latency.count();
+    }
+
+    /**
+     * Gets the number of calls that threw an exception
+     *
+     * @return the number of failed calls
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Gets the number of calls the provider answered with a failure without throwing an exception
+     *
+     * @return the number of unsuccessful calls
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Gets the number of calls the provider reported as not implemented,
+     * either through a {@code NOT_IMPLEMENTED} response or an {@link UnsupportedOperationException}
+     *
+     * @return the number of unimplemented calls
+     */
+    public long getNotImplemented() {
+        return notImplemented.sum();
+    }
+
+    /**
+     * Gets the latencies of all completed calls
+     *
+     * @return the latency histogram
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Records the latency of a completed call and notifies the {@link CallListener listeners} of the provider
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        latency.record(nanos);
+        provider.completed(this, nanos);
+    }
+
+    /**
+     * Records a call the provider reported as not implemented
+     */
+    public void notImplemented() {
+        notImplemented.increment();
+    }
+
+    /**
+     * Records a call the provider answered with a failure without throwing an exception
+     */
+    public void failure() {
+        failures.increment();
+    }
+
+    /**
+     * Records a call that threw the given exception
+     *
+     * @param exception the thrown exception
+     * @return the given exception, to be rethrown
+     */
+    public RuntimeException failed(RuntimeException exception) {
+        if (exception instanceof UnsupportedOperationException) notImplemented.increment();
+        else errors.increment();
+        return exception;
+    }
+
+    /**
+     * Performs a call, recording its latency and the exception it throws, if any
+     *
+     * @param call the call to perform
+     * @param <T>  the type of the result
+     * @return the result of the call
+     */
+    public <T> T call(Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Performs a call returning a boolean, recording its latency and the exception it throws, if any
+     *
+     * @param call the call to perform
+     * @return the result of the call
+     */
+    public boolean callBoolean(BooleanSupplier call) {
+        long start = System.nanoTime();
+        try {
+            return call.getAsBoolean();
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Performs a call returning an int, recording its latency and the exception it throws, if any
+     *
+     * @param call the call to perform
+     * @return the result of the call
+     */
+    public int callInt(IntSupplier call) {
+        long start = System.nanoTime();
+        try {
+            return call.getAsInt();
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Performs a call returning a long, recording its latency and the exception it throws, if any
+     *
+     * @param call the call to perform
+     * @return the result of the call
+     */
+    public long callLong(LongSupplier call) {
+        long start = System.nanoTime();
+        try {
+            return call.getAsLong();
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Performs a call returning a double, recording its latency and the exception it throws, if any
+     *
+     * @param call the call to perform
+     * @return the result of the call
+     */
+    public double callDouble(DoubleSupplier call) {
+        long start = System.nanoTime();
+        try {
+            return call.getAsDouble();
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Performs a call without result, recording its latency and the exception it throws, if any
+     *
+     * @param call the call to perform
+     */
+    public void run(Runnable call) {
+        long start = System.nanoTime();
+        try {
+            call.run();
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+}
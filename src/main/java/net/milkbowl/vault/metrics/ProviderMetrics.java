@@ -0,0 +1,199 @@
+package net.milkbowl.vault.metrics;
+
+import org.jspecify.annotations.Nullable;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The call statistics of an instrumented provider, collected per method.
+ * <p>
+ * The statistics can be queried directly or through JMX once {@link #registerMBean() registered}.
+ *
+ * @see InstrumentedEconomy
+ * @see InstrumentedPermission
+ * @see InstrumentedChat
+ */
+public final class ProviderMetrics implements ProviderMetricsMXBean {
+    private static final Logger log = Logger.getLogger("Minecraft");
+
+    private final Map<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+    private volatile CallListener[] listeners = new CallListener[0];
+    private final String service;
+    private final String provider;
+    private volatile @Nullable ObjectName objectName;
+
+    /**
+     * Constructor for ProviderMetrics
+     *
+     * @param service  the name of the instrumented service
+     * @param provider the name of the instrumented provider
+     */
+    public ProviderMetrics(String service, String provider) {
+        this.service = service;
+        this.provider = provider;
+    }
+
+    /**
+     * Gets the statistics of the given method, creating them on first use
+     *
+     * @param name the name of the method
+     * @return the method statistics
+     */
+    public MethodMetrics method(String name) {
+        MethodMetrics method = methods.get(name);
+        return method != null ? method : methods.computeIfAbsent(name, key -> new MethodMetrics(this, key));
+    }
+
+    /**
+     * Gets the statistics of all methods called so far
+     *
+     * @return an unmodifiable view of the method statistics keyed by method name
+     */
+    public Map<String, MethodMetrics> getMethods() {
+        return Collections.unmodifiableMap(methods);
+    }
+
+    /**
+     * Adds a listener notified after every recorded call
+     *
+     * @param listener the listener to add
+     */
+    public synchronized void addListener(CallListener listener) {
+        CallListener[] current = listeners;
+        CallListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Removes a previously added listener
+     *
+     * @param listener the listener to remove
+     * @return whether the listener was removed
+     */
+    public synchronized boolean removeListener(CallListener listener) {
+        CallListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] != listener) continue;
+            CallListener[] updated = new CallListener[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, i);
+            System.arraycopy(current, i + 1, updated, i, updated.length - i);
+            listeners = updated;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String getService() {
+        return service;
+    }
+
+    @Override
+    public String getProvider() {
+        return provider;
+    }
+
+    @Override
+    public long getTotalCalls() {
+        long calls = 0;
+        for (MethodMetrics method : methods.values()) calls += method.getCalls();
+        return calls;
+    }
+
+    @Override
+    public Map<String, Long> getCalls() {
+        return collect(MethodMetrics::getCalls);
+    }
+
+    @Override
+    public Map<String, Long> getErrors() {
+        return collect(MethodMetrics::getErrors);
+    }
+
+    @Override
+    public Map<String, Long> getFailures() {
+        return collect(MethodMetrics::getFailures);
+    }
+
+    @Override
+    public Map<String, Long> getNotImplemented() {
+        return collect(MethodMetrics::getNotImplemented);
+    }
+
+    @Override
+    public Map<String, Double> getMeanLatencyNanos() {
+        return collect(method -> method.getLatency().meanNanos());
+    }
+
+    @Override
+    public Map<String, Long> getMedianLatencyNanos() {
+        return collect(method -> method.getLatency().percentileNanos(0.5));
+    }
+
+    @Override
+    public Map<String, Long> getP99LatencyNanos() {
+        return collect(method -> method.getLatency().percentileNanos(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencyNanos() {
+        return collect(method -> method.getLatency().maxNanos());
+    }
+
+    /**
+     * Registers these statistics with the platform MBean server,
+     * named {@code net.milkbowl.vault:type=<service>,name=<provider>}
+     *
+     * @return the name the statistics were registered under
+     * @throws JMException if the registration failed
+     */
+    public synchronized ObjectName registerMBean() throws JMException {
+        ObjectName name = objectName;
+        if (name != null) return name;
+        name = new ObjectName("net.milkbowl.vault:type=" + ObjectName.quote(service) + ",name=" + ObjectName.quote(provider));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        objectName = name;
+        return name;
+    }
+
+    /**
+     * Removes these statistics from the platform MBean server if they were registered
+     *
+     * @throws JMException if the removal failed
+     */
+    public synchronized void unregisterMBean() throws JMException {
+        ObjectName name = objectName;
+        if (name == null) return;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (server.isRegistered(name)) server.unregisterMBean(name);
+        objectName = null;
+    }
+
+    void completed(MethodMetrics method, long nanos) {
+        for (CallListener listener : listeners) {
+            try {
+                listener.callCompleted(method, nanos);
+            } catch (RuntimeException e) {
+                log.log(Level.SEVERE, String.format("[%s] Call listener failed", provider), e);
+            }
+        }
+    }
+
+    private <T> Map<String, T> collect(Function<MethodMetrics, T> function) {
+        Map<String, T> values = new TreeMap<>();
+        methods.forEach((name, method) -> values.put(name, function.apply(method)));
+        return values;
+    }
+}
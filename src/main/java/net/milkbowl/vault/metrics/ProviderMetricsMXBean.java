@@ -0,0 +1,85 @@
+package net.milkbowl.vault.metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link ProviderMetrics}, all maps being keyed by method name.
+ */
+public interface ProviderMetricsMXBean {
+    /**
+     * Gets the name of the instrumented service
+     *
+     * @return {@code Economy}, {@code Permission} or {@code Chat}
+     */
+    String getService();
+
+    /**
+     * Gets the name of the instrumented provider
+     *
+     * @return the provider name
+     */
+    String getProvider();
+
+    /**
+     * Gets the number of calls of all methods
+     *
+     * @return the total number of calls
+     */
+    long getTotalCalls();
+
+    /**
+     * Gets the number of calls per method
+     *
+     * @return the call counts
+     */
+    Map<String, Long> getCalls();
+
+    /**
+     * Gets the number of calls that threw an exception per method
+     *
+     * @return the error counts
+     */
+    Map<String, Long> getErrors();
+
+    /**
+     * Gets the number of calls answered with a failure without throwing an exception per method
+     *
+     * @return the failure counts
+     */
+    Map<String, Long> getFailures();
+
+    /**
+     * Gets the number of calls reported as not implemented per method
+     *
+     * @return the not implemented counts
+     */
+    Map<String, Long> getNotImplemented();
+
+    /**
+     * Gets the mean latency per method
+     *
+     * @return the mean latencies in nanoseconds
+     */
+    Map<String, Double> getMeanLatencyNanos();
+
+    /**
+     * Gets the median latency per method
+     *
+     * @return the median latencies in nanoseconds
+     */
+    Map<String, Long> getMedianLatencyNanos();
+
+    /**
+     * Gets the 99th percentile latency per method
+     *
+     * @return the 99th percentile latencies in nanoseconds
+     */
+    Map<String, Long> getP99LatencyNanos();
+
+    /**
+     * Gets the maximum latency per method
+     *
+     * @return the maximum latencies in nanoseconds
+     */
+    Map<String, Long> getMaxLatencyNanos();
+}
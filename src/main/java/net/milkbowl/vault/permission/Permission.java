@@ -15,6 +15,7 @@
  */
 package net.milkbowl.vault.permission;
 
+import net.milkbowl.vault.WorldContext;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.World;
 import org.bukkit.command.CommandSender;
@@ -125,6 +126,20 @@ public abstract class Permission {
         return player.getName() != null && has(world, player.getName(), permission);
     }
 
+    /**
+     * Checks if player has a permission node in the given world context.
+     * Providers can override this to look up world-specific permissions by {@link WorldContext#id() context id}.
+     *
+     * @param player     to check
+     * @param world      resolved world context, {@link WorldContext#GLOBAL} for global permissions
+     * @param permission Permission node
+     * @return Success or Failure
+     * @see #playerHas(String, OfflinePlayer, String)
+     */
+    public boolean playerHas(OfflinePlayer player, WorldContext world, String permission) {
+        return playerHas(world.getName(), player, permission);
+    }
+
     /**
      * Checks if player has a permission node.
      * Defaults to world-specific permission check if the permission system supports it.
@@ -460,6 +475,20 @@ public abstract class Permission {
         return player.getName() != null && playerInGroup(world, player.getName(), group);
     }
 
+    /**
+     * Check if player is member of a group in the given world context.
+     * Providers can override this to look up world-specific groups by {@link WorldContext#id() context id}.
+     *
+     * @param player to check
+     * @param world  resolved world context, {@link WorldContext#GLOBAL} for global groups
+     * @param group  Group name
+     * @return Success or Failure
+     * @see #playerInGroup(String, OfflinePlayer, String)
+     */
+    public boolean playerInGroup(OfflinePlayer player, WorldContext world, String group) {
+        return playerInGroup(world.getName(), player, group);
+    }
+
     /**
      * Check if player is member of a group.
      * This method will ONLY check groups for which the player is in that are defined for the current world.
@@ -584,6 +613,19 @@ public abstract class Permission {
         return getPlayerGroups(world, player.getName());
     }
 
+    /**
+     * Gets the list of groups that this player has in the given world context.
+     * Providers can override this to look up world-specific groups by {@link WorldContext#id() context id}.
+     *
+     * @param player OfflinePlayer
+     * @param world  resolved world context, {@link WorldContext#GLOBAL} for global groups
+     * @return Array of groups
+     * @see #getPlayerGroups(String, OfflinePlayer)
+     */
+    public String[] getPlayerGroups(OfflinePlayer player, WorldContext world) {
+        return getPlayerGroups(world.getName(), player);
+    }
+
     /**
      * Returns a list of world-specific groups that this player is currently in. May return unexpected results if
      * you are looking for global groups, or if the registered permission system does not support world-specific groups.
@@ -623,6 +665,19 @@ public abstract class Permission {
         return getPrimaryGroup(world, player.getName());
     }
 
+    /**
+     * Gets players primary group in the given world context.
+     * Providers can override this to look up world-specific groups by {@link WorldContext#id() context id}.
+     *
+     * @param player to get from
+     * @param world  resolved world context, {@link WorldContext#GLOBAL} for the global primary group
+     * @return Players primary group
+     * @see #getPrimaryGroup(String, OfflinePlayer)
+     */
+    public String getPrimaryGroup(OfflinePlayer player, WorldContext world) {
+        return getPrimaryGroup(world.getName(), player);
+    }
+
     /**
      * Get players primary group.
      * Defaults to the players current world, so may return only world-specific groups.
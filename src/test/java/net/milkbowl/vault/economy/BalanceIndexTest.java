@@ -0,0 +1,120 @@
+package net.milkbowl.vault.economy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BalanceIndexTest {
+    private final BalanceIndex index = new BalanceIndex();
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+    private final UUID third = UUID.randomUUID();
+
+    @Test
+    void ranksByDescendingBalance() {
+        index.update(first, null, 10);
+        index.update(second, null, 30);
+        index.update(third, null, 20);
+
+        assertEquals(3, index.size(null));
+        assertEquals(1, index.rankOf(second, null));
+        assertEquals(2, index.rankOf(third, null));
+        assertEquals(3, index.rankOf(first, null));
+    }
+
+    @Test
+    void updateMovesAccount() {
+        index.update(first, null, 10);
+        index.update(second, null, 30);
+        index.update(first, null, 50);
+
+        assertEquals(2, index.size(null));
+        assertEquals(1, index.rankOf(first, null));
+        assertEquals(2, index.rankOf(second, null));
+    }
+
+    @Test
+    void removeShiftsRanks() {
+        index.update(first, null, 10);
+        index.update(second, null, 30);
+        index.update(third, null, 20);
+        index.remove(second, null);
+
+        assertEquals(2, index.size(null));
+        assertEquals(-1, index.rankOf(second, null));
+        assertEquals(1, index.rankOf(third, null));
+        assertEquals(2, index.rankOf(first, null));
+    }
+
+    @Test
+    void tiesHaveDistinctRanks() {
+        index.update(first, null, 10);
+        index.update(second, null, 10);
+
+        assertEquals(3, index.rankOf(first, null) + index.rankOf(second, null));
+    }
+
+    @Test
+    void topListsHighestFirst() {
+        index.update(first, null, 10);
+        index.update(second, null, 30);
+        index.update(third, null, 20);
+
+        Balances top = index.top(2, null);
+        assertEquals(2, top.size());
+        assertEquals(second, top.getUniqueId(0));
+        assertEquals(30, top.getBalance(0));
+        assertEquals(third, top.getUniqueId(1));
+        assertEquals(20, top.getBalance(1));
+        assertEquals(3, index.top(10, null).size());
+    }
+
+    @Test
+    void worldsAreRankedSeparately() {
+        index.update(first, null, 10);
+        index.update(first, "world", 5);
+        index.update(second, "world", 7);
+
+        assertEquals(1, index.rankOf(first, null));
+        assertEquals(2, index.rankOf(first, "world"));
+        assertEquals(-1, index.rankOf(second, null));
+        assertEquals(2, index.size("world"));
+    }
+
+    @Test
+    void matchesSortedOrderAfterRandomUpdates() {
+        Random random = new Random(42);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) ids.add(new UUID(random.nextLong(), random.nextLong()));
+        Map<UUID, Double> balances = new HashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            UUID uniqueId = ids.get(random.nextInt(ids.size()));
+            if (random.nextInt(4) == 0) {
+                index.remove(uniqueId, null);
+                balances.remove(uniqueId);
+            } else {
+                double balance = random.nextInt(50);
+                index.update(uniqueId, null, balance);
+                balances.put(uniqueId, balance);
+            }
+        }
+
+        List<UUID> expected = new ArrayList<>(balances.keySet());
+        expected.sort(Comparator.comparing(balances::get, Comparator.reverseOrder()));
+        assertEquals(expected.size(), index.size(null));
+        Balances top = index.top(expected.size(), null);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals((double) balances.get(top.getUniqueId(i)), top.getBalance(i));
+            assertEquals((double) balances.get(expected.get(i)), top.getBalance(i));
+            assertEquals(i + 1, index.rankOf(top.getUniqueId(i), null));
+        }
+    }
+}
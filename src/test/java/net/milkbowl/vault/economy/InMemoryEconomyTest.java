@@ -0,0 +1,147 @@
+package net.milkbowl.vault.economy;
+
+import org.bukkit.OfflinePlayer;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryEconomyTest {
+    private static final int THREADS = 8;
+
+    private final InMemoryEconomy economy = new InMemoryEconomy("Test");
+
+    @Test
+    void depositAndWithdraw() {
+        OfflinePlayer player = player();
+        assertTrue(economy.createPlayerAccount(player));
+
+        assertTrue(economy.depositPlayer(player, 10.25).transactionSuccess());
+        assertTrue(economy.withdrawPlayer(player, 0.25).transactionSuccess());
+        assertFalse(economy.withdrawPlayer(player, 10.01).transactionSuccess());
+        assertEquals(10, economy.getBalance(player));
+        assertEquals(1000, economy.getBalanceMinor(player));
+    }
+
+    @Test
+    void rejectsInvalidAmounts() {
+        OfflinePlayer player = player();
+        economy.createPlayerAccount(player);
+
+        assertFalse(economy.depositPlayer(player, Double.NaN).transactionSuccess());
+        assertFalse(economy.depositPlayer(player, 1e30).transactionSuccess());
+        assertFalse(economy.has(player, 1e30));
+        assertEquals(0, economy.getBalance(player));
+    }
+
+    @Test
+    void uniqueIdMutationsUpdateBalanceIndex() {
+        OfflinePlayer first = player();
+        OfflinePlayer second = player();
+        economy.createPlayerAccount(first);
+        economy.createPlayerAccount(second);
+        economy.enableBalanceIndex();
+        economy.depositPlayer(first, 5);
+
+        assertTrue(economy.depositPlayer(second.getUniqueId(), null, 10).transactionSuccess());
+        assertEquals(1, economy.rankOf(second, null));
+        assertTrue(economy.withdrawPlayer(second.getUniqueId(), null, 6).transactionSuccess());
+        assertEquals(1, economy.rankOf(first, null));
+        assertEquals(2, economy.rankOf(second, null));
+    }
+
+    @Test
+    void concurrentDepositsAndWithdrawalsKeepBalance() throws Exception {
+        OfflinePlayer player = player();
+        economy.createPlayerAccount(player);
+        economy.depositPlayer(player, 100);
+
+        run(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                assertTrue(economy.depositPlayer(player, 1.5).transactionSuccess());
+                assertTrue(economy.withdrawPlayer(player, 1.5).transactionSuccess());
+            }
+        });
+
+        assertEquals(100, economy.getBalance(player));
+    }
+
+    @Test
+    void concurrentWithdrawalsNeverOverdraw() throws Exception {
+        OfflinePlayer player = player();
+        economy.createPlayerAccount(player);
+        economy.depositPlayer(player, 100);
+        AtomicInteger successes = new AtomicInteger();
+
+        run(() -> {
+            for (int i = 0; i < 50; i++) {
+                if (economy.withdrawPlayer(player, 1).transactionSuccess()) successes.incrementAndGet();
+            }
+        });
+
+        assertEquals(100, successes.get());
+        assertEquals(0, economy.getBalance(player));
+    }
+
+    @Test
+    void concurrentTransfersKeepTotal() throws Exception {
+        OfflinePlayer first = player();
+        OfflinePlayer second = player();
+        economy.createPlayerAccount(first);
+        economy.createPlayerAccount(second);
+        economy.depositPlayer(first, 50);
+        economy.depositPlayer(second, 50);
+
+        run(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                economy.transfer(first, second, null, 3);
+                economy.transfer(second, first, null, 3);
+            }
+        });
+
+        assertEquals(100, economy.getBalance(first) + economy.getBalance(second));
+    }
+
+    private static void run(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static OfflinePlayer player() {
+        UUID uniqueId = UUID.randomUUID();
+        return (OfflinePlayer) Proxy.newProxyInstance(OfflinePlayer.class.getClassLoader(),
+                new Class<?>[]{OfflinePlayer.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getUniqueId" -> uniqueId;
+                    case "getName" -> uniqueId.toString();
+                    case "hashCode" -> uniqueId.hashCode();
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "OfflinePlayer{" + uniqueId + "}";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
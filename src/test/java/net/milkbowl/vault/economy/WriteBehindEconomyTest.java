@@ -0,0 +1,144 @@
+package net.milkbowl.vault.economy;
+
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindEconomyTest {
+    private final InMemoryEconomy backing = new InMemoryEconomy("Test");
+    private final CountingEconomy counting = new CountingEconomy(backing);
+
+    @Test
+    void coalescesDeposits() {
+        OfflinePlayer player = player();
+        backing.createPlayerAccount(player);
+
+        withEconomy(economy -> {
+            for (int i = 0; i < 10; i++) assertTrue(economy.depositPlayer(player, 1.5).transactionSuccess());
+            assertEquals(10, economy.getBufferedDeposits());
+            assertEquals(15, economy.getBalance(player));
+            assertEquals(0, backing.getBalance(player));
+
+            economy.flush();
+            assertEquals(1, counting.deposits.get());
+            assertEquals(0, economy.getBufferedDeposits());
+            assertEquals(15, backing.getBalance(player));
+        });
+    }
+
+    @Test
+    void flushesBeforeReads() {
+        OfflinePlayer player = player();
+        backing.createPlayerAccount(player);
+
+        withEconomy(economy -> {
+            economy.depositPlayer(player, 5);
+            economy.depositPlayer(player, 5);
+            assertEquals(1000, economy.getBalanceMinor(player));
+            assertEquals(1, counting.deposits.get());
+            assertTrue(economy.withdrawPlayer(player, 10).transactionSuccess());
+            assertEquals(0, backing.getBalance(player));
+        });
+    }
+
+    @Test
+    void rejectsInvalidDeposits() {
+        OfflinePlayer player = player();
+        backing.createPlayerAccount(player);
+
+        withEconomy(economy -> {
+            assertFalse(economy.depositPlayer(player, Double.NaN).transactionSuccess());
+            assertFalse(economy.depositPlayer(player, Double.POSITIVE_INFINITY).transactionSuccess());
+            assertFalse(economy.depositPlayer(player, -1).transactionSuccess());
+            assertFalse(economy.depositPlayer(player(), 1).transactionSuccess());
+            assertEquals(0, economy.getBufferedDeposits());
+        });
+    }
+
+    @Test
+    void givesUpAfterRepeatedFailures() {
+        OfflinePlayer player = player();
+        backing.createPlayerAccount(player);
+        List<Double> failed = new ArrayList<>();
+        WriteBehindEconomy.DurabilityHook hook = new WriteBehindEconomy.DurabilityHook() {
+            @Override
+            public void failed(OfflinePlayer player, @Nullable String world, double amount, @Nullable String reason) {
+                failed.add(amount);
+            }
+        };
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (WriteBehindEconomy economy = new WriteBehindEconomy(counting, scheduler, Duration.ofHours(1), 1000, 3, hook)) {
+            economy.depositPlayer(player, 2);
+            counting.reject = true;
+            for (int i = 0; i < 2; i++) {
+                economy.flush();
+                assertEquals(1, economy.getBufferedDeposits());
+                assertTrue(failed.isEmpty());
+            }
+
+            economy.flush();
+            assertEquals(0, economy.getBufferedDeposits());
+            assertEquals(1, failed.size());
+            assertEquals(2, (double) failed.get(0));
+
+            economy.flush();
+            assertEquals(3, counting.deposits.get());
+            assertEquals(0, economy.getBalance(player));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void withEconomy(Consumer<WriteBehindEconomy> test) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (WriteBehindEconomy economy = new WriteBehindEconomy(counting, scheduler, Duration.ofHours(1), 1000)) {
+            test.accept(economy);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static OfflinePlayer player() {
+        UUID uniqueId = UUID.randomUUID();
+        return (OfflinePlayer) Proxy.newProxyInstance(OfflinePlayer.class.getClassLoader(),
+                new Class<?>[]{OfflinePlayer.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getUniqueId" -> uniqueId;
+                    case "getName" -> uniqueId.toString();
+                    case "hashCode" -> uniqueId.hashCode();
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "OfflinePlayer{" + uniqueId + "}";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static final class CountingEconomy extends ForwardingEconomy {
+        private final AtomicInteger deposits = new AtomicInteger();
+        private volatile boolean reject;
+
+        private CountingEconomy(Economy delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public EconomyResponse depositPlayer(OfflinePlayer player, double amount) {
+            deposits.incrementAndGet();
+            if (reject) return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "Rejected");
+            return delegate.depositPlayer(player, amount);
+        }
+    }
+}
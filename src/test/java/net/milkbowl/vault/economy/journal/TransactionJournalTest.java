@@ -0,0 +1,135 @@
+package net.milkbowl.vault.economy.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransactionJournalTest {
+    private static final int SEGMENT_SIZE = 4 * TransactionJournal.RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeReopenAndRead() throws IOException {
+        UUID uniqueId = UUID.randomUUID();
+        try (TransactionJournal journal = TransactionJournal.open(directory, SEGMENT_SIZE)) {
+            assertEquals(1, journal.append(JournalOperation.DEPOSIT, uniqueId, 10, 10, null));
+            assertEquals(2, journal.append(JournalOperation.WITHDRAW, uniqueId, 4, 6, "world"));
+        }
+        try (TransactionJournal journal = TransactionJournal.open(directory, SEGMENT_SIZE)) {
+            assertEquals(3, journal.getNextSequence());
+            assertEquals(3, journal.append(JournalOperation.BANK_DELETE, null, 0, 0, "bank"));
+        }
+
+        List<JournalRecord> records = replay(1);
+        assertEquals(3, records.size());
+        JournalRecord deposit = records.get(0);
+        assertEquals(1, deposit.sequence());
+        assertEquals(JournalOperation.DEPOSIT, deposit.operation());
+        assertEquals(uniqueId, deposit.uniqueId());
+        assertEquals(10, deposit.amount());
+        assertNull(deposit.name());
+        JournalRecord withdrawal = records.get(1);
+        assertEquals(JournalOperation.WITHDRAW, withdrawal.operation());
+        assertEquals(6, withdrawal.balance());
+        assertEquals("world", withdrawal.name());
+        JournalRecord deletion = records.get(2);
+        assertNull(deletion.uniqueId());
+        assertEquals("bank", deletion.name());
+    }
+
+    @Test
+    void rollsOverSegments() throws IOException {
+        UUID uniqueId = UUID.randomUUID();
+        try (TransactionJournal journal = TransactionJournal.open(directory, SEGMENT_SIZE)) {
+            for (int i = 1; i <= 10; i++) journal.append(JournalOperation.DEPOSIT, uniqueId, 1, i, null);
+        }
+        assertEquals(3, segments());
+
+        List<JournalRecord> records = replay(1);
+        assertEquals(10, records.size());
+        for (int i = 0; i < records.size(); i++) assertEquals(i + 1, records.get(i).sequence());
+        assertEquals(4, replay(7).size());
+
+        try (TransactionJournal journal = TransactionJournal.open(directory, SEGMENT_SIZE)) {
+            assertEquals(11, journal.getNextSequence());
+            journal.truncate(9);
+        }
+        assertEquals(1, segments());
+        assertEquals(2, replay(1).size());
+    }
+
+    @Test
+    void reservationSkipsToNextSegment() throws IOException {
+        UUID uniqueId = UUID.randomUUID();
+        try (TransactionJournal journal = TransactionJournal.open(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 3; i++) journal.append(JournalOperation.DEPOSIT, uniqueId, 1, i, null);
+            journal.reserve(2);
+            journal.append(JournalOperation.WITHDRAW, uniqueId, 1, 1, null);
+            journal.append(JournalOperation.DEPOSIT, uniqueId, 1, 1, null);
+            assertThrows(IllegalArgumentException.class, () -> journal.reserve(5));
+        }
+        assertEquals(2, segments());
+        assertEquals(5, replay(1).size());
+        try (TransactionJournal journal = TransactionJournal.open(directory, SEGMENT_SIZE)) {
+            assertEquals(6, journal.getNextSequence());
+        }
+    }
+
+    @Test
+    void ignoresTornRecords() throws IOException {
+        UUID uniqueId = UUID.randomUUID();
+        try (TransactionJournal journal = TransactionJournal.open(directory, SEGMENT_SIZE)) {
+            journal.append(JournalOperation.DEPOSIT, uniqueId, 1, 1, null);
+            journal.append(JournalOperation.DEPOSIT, uniqueId, 1, 2, null);
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), TransactionJournal.RECORD_SIZE + 40);
+        }
+
+        assertEquals(1, replay(1).size());
+        try (TransactionJournal journal = TransactionJournal.open(directory, SEGMENT_SIZE)) {
+            assertEquals(2, journal.append(JournalOperation.DEPOSIT, uniqueId, 1, 2, null));
+        }
+        assertEquals(2, replay(1).size());
+    }
+
+    @Test
+    void rejectsAppendsAfterClose() throws IOException {
+        TransactionJournal journal = TransactionJournal.open(directory, SEGMENT_SIZE);
+        journal.close();
+        assertThrows(IllegalStateException.class,
+                () -> journal.append(JournalOperation.DEPOSIT, UUID.randomUUID(), 1, 1, null));
+    }
+
+    private List<JournalRecord> replay(long fromSequence) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        TransactionJournal.replay(directory, fromSequence, records::add);
+        return records;
+    }
+
+    private long segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}